@@ -0,0 +1,82 @@
+package athleticli.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import athleticli.parser.ArgumentTokenizer;
+import athleticli.parser.Parameter;
+
+/**
+ * Measures finding the values of the markers in the arguments of <code>add-diet</code>, either by searching the
+ * arguments once per marker for the missing and duplicate checks and matching a regular expression per value
+ * as the diet parser used to, or by tokenizing the arguments once.
+ * The long arguments have a note of 1k characters before the markers, which every search has to skip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+    private static final String MARKERS = "calories/500 protein/20 carb/50 fat/10 datetime/2023-10-10 12:00";
+    private static final Map<String, String> ARGUMENTS = Map.of(
+            "short", MARKERS,
+            "long", "x".repeat(1000) + " " + MARKERS);
+    private static final String[] SEPARATORS = {Parameter.CALORIES_SEPARATOR, Parameter.PROTEIN_SEPARATOR,
+        Parameter.CARB_SEPARATOR, Parameter.FAT_SEPARATOR, Parameter.DATETIME_SEPARATOR};
+
+    @Param({"short", "long"})
+    public String length;
+    private String arguments;
+    private final ArgumentTokenizer tokenizer = new ArgumentTokenizer(SEPARATORS);
+
+    @Setup
+    public void setUp() {
+        arguments = ARGUMENTS.get(length);
+    }
+
+    @Benchmark
+    public void searchPerMarker(Blackhole blackhole) {
+        for (String separator : SEPARATORS) {
+            blackhole.consume(arguments.indexOf(separator) == -1);
+        }
+        for (String separator : SEPARATORS) {
+            blackhole.consume(arguments.indexOf(separator) != arguments.lastIndexOf(separator));
+        }
+        for (String separator : SEPARATORS) {
+            final String words = separator.equals(Parameter.DATETIME_SEPARATOR) ? "(\\S+)(?:\\s+(\\S+))?" : "(\\S+)";
+            final Matcher matcher = Pattern.compile(Pattern.quote(separator) + words).matcher(arguments);
+            blackhole.consume(matcher.find() ? matcher.group(1) : "");
+        }
+    }
+
+    @Benchmark
+    public void tokenizeOnce(Blackhole blackhole) {
+        tokenizer.tokenize(arguments);
+        for (String separator : SEPARATORS) {
+            blackhole.consume(tokenizer.indexOf(separator) == -1);
+        }
+        for (String separator : SEPARATORS) {
+            blackhole.consume(tokenizer.indexOf(separator) != tokenizer.lastIndexOf(separator));
+        }
+        for (String separator : SEPARATORS) {
+            blackhole.consume(tokenizer.getWords(separator, separator.equals(Parameter.DATETIME_SEPARATOR) ? 2 : 1));
+        }
+    }
+}
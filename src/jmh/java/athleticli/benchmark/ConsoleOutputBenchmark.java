@@ -0,0 +1,75 @@
+package athleticli.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import athleticli.commands.activity.ListActivityCommand;
+import athleticli.data.Data;
+import athleticli.ui.Message;
+import athleticli.ui.Ui;
+
+/**
+ * Measures printing <code>list-activity</code> for 100k activities, either through a line-flushing
+ * <code>PrintStream</code> like <code>System.out</code>, or through the buffered writer of <code>Ui</code>.
+ * Both write to the null device, so that the cost of the system calls is measured without filling a disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConsoleOutputBenchmark {
+    private static final int RECORD_COUNT = 100_000;
+    private static final String NULL_DEVICE = System.getProperty("os.name").startsWith("Windows") ? "NUL" : "/dev/null";
+    private final ListActivityCommand command = new ListActivityCommand(false);
+    private Data data;
+    private PrintStream lineFlushed;
+    private Ui buffered;
+
+    @Setup
+    public void setUp() throws FileNotFoundException {
+        data = new Data();
+        final SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            data.getActivities().add(generator.createActivity(i));
+        }
+        lineFlushed = new PrintStream(new BufferedOutputStream(new FileOutputStream(NULL_DEVICE)), true);
+        buffered = new Ui(new ByteArrayInputStream(new byte[0]), new FileOutputStream(NULL_DEVICE));
+    }
+
+    @TearDown
+    public void tearDown() {
+        lineFlushed.close();
+    }
+
+    @Benchmark
+    public void printLineFlushed() {
+        lineFlushed.print(Message.LINE);
+        for (String message : command.execute(data)) {
+            lineFlushed.println(Message.PREFIX_MESSAGE + message);
+        }
+        lineFlushed.println(Message.LINE);
+    }
+
+    @Benchmark
+    public void printBuffered() {
+        buffered.showMessages(command.executeAsStream(data));
+    }
+}
@@ -0,0 +1,56 @@
+package athleticli.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import athleticli.commands.FindCommand;
+import athleticli.data.Data;
+import athleticli.exceptions.AthletiException;
+
+/**
+ * Measures the <code>find</code> command on a single date and on a month against histories of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FindBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int recordCount;
+    private Data data;
+    private FindCommand findDate;
+    private FindCommand findMonth;
+
+    @Setup
+    public void setUp() {
+        data = new Data();
+        new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).fill(data, recordCount);
+        final LocalDate date = LocalDate.now().minusDays(2);
+        findDate = new FindCommand(date);
+        findMonth = new FindCommand(date.minusDays(30), date);
+    }
+
+    @Benchmark
+    public String[] findDate() throws AthletiException {
+        return findDate.execute(data);
+    }
+
+    @Benchmark
+    public String[] findMonth() throws AthletiException {
+        return findMonth.execute(data);
+    }
+}
@@ -0,0 +1,62 @@
+package athleticli.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import athleticli.data.Data;
+import athleticli.data.activity.ActivityGoal;
+import athleticli.data.diet.DietGoal;
+import athleticli.data.sleep.SleepGoal;
+
+/**
+ * Measures how long it takes to compute the progress of a goal against histories of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GoalBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int recordCount;
+    private Data data;
+    private ActivityGoal activityGoal;
+    private DietGoal dietGoal;
+    private SleepGoal sleepGoal;
+
+    @Setup
+    public void setUp() {
+        data = new Data();
+        new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).fill(data, recordCount);
+        activityGoal = data.getActivityGoals().get(0);
+        dietGoal = data.getDietGoals().get(1);
+        sleepGoal = data.getSleepGoals().get(1);
+    }
+
+    @Benchmark
+    public int activityGoal() {
+        return activityGoal.getCurrentValue(data);
+    }
+
+    @Benchmark
+    public int dietGoal() {
+        return dietGoal.getCurrentValue(data);
+    }
+
+    @Benchmark
+    public int sleepGoal() {
+        return sleepGoal.getCurrentValue(data);
+    }
+}
@@ -0,0 +1,63 @@
+package athleticli.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import athleticli.commands.Command;
+import athleticli.exceptions.AthletiException;
+import athleticli.parser.Parser;
+
+/**
+ * Measures how long it takes to parse a typical command of each command family,
+ * including the edit and delete commands, which start with the index of a record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParserBenchmark {
+    private static final Map<String, String> COMMANDS = Map.ofEntries(
+            Map.entry("general", "find 2023-10-01 2023-10-31"),
+            Map.entry("activity",
+                    "add-run Morning Run duration/01:00:00 distance/10000 datetime/2023-10-10 07:00 elevation/60"),
+            Map.entry("activity-edit", "edit-swim 1 caption/Lunch Swim distance/1500 style/freestyle"),
+            Map.entry("activity-delete", "delete-activity 3"),
+            Map.entry("activity-goal", "set-activity-goal sport/running type/distance period/weekly target/20000"),
+            Map.entry("diet", "add-diet calories/500 protein/20 carb/50 fat/10 datetime/2023-10-10 12:00"),
+            Map.entry("diet-edit", "edit-diet 2 calories/500"),
+            Map.entry("diet-delete", "delete-diet 2"),
+            Map.entry("diet-goal", "set-diet-goal WEEKLY calories/500 fat/600"),
+            Map.entry("sleep", "add-sleep start/2023-10-10 22:00 end/2023-10-11 06:00"),
+            Map.entry("sleep-edit", "edit-sleep 12 start/2023-10-10 22:00 end/2023-10-11 06:00"),
+            Map.entry("sleep-delete", "delete-sleep 7"),
+            Map.entry("sleep-goal", "set-sleep-goal type/duration period/weekly target/56"));
+
+    @Param({"general", "activity", "activity-edit", "activity-delete", "activity-goal", "diet", "diet-edit",
+        "diet-delete", "diet-goal", "sleep", "sleep-edit", "sleep-delete", "sleep-goal"})
+    public String family;
+    private String command;
+
+    @Setup
+    public void setUp() {
+        command = COMMANDS.get(family);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws AthletiException {
+        return Parser.parseCommand(command);
+    }
+}
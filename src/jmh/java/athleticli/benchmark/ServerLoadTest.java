@@ -0,0 +1,129 @@
+package athleticli.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import athleticli.CommandServer;
+import athleticli.common.Logging;
+import athleticli.data.Data;
+
+/**
+ * Measures the latency and throughput of {@link CommandServer} under concurrent clients.
+ * Usage: <code>ServerLoadTest [CLIENTS] [REQUESTS] [RECORDS]</code>. A server is started on a free port of
+ * localhost over the given number of synthetic records of each kind, which are not written to any file,
+ * and logs to the same file as the application.
+ * Each client sends its requests one after another, mostly list, find and goal queries with an add every
+ * {@link #ADD_INTERVAL} requests, and the latency of every request is recorded.
+ * The first {@link #WARMUP_FRACTION} of the requests of each client is not recorded.
+ */
+public class ServerLoadTest {
+    private static final int DEFAULT_CLIENTS = 16;
+    private static final int DEFAULT_REQUESTS = 2_000;
+    private static final int DEFAULT_RECORDS = 10_000;
+    private static final int ADD_INTERVAL = 10;
+    private static final int WARMUP_FRACTION = 10;
+    private static final double NANOSECONDS_PER_MILLISECOND = 1e6;
+    private static final double NANOSECONDS_PER_SECOND = 1e9;
+
+    /**
+     * Runs the load test and prints the percentiles of the latencies and the requests per second.
+     *
+     * @param args The number of clients, of requests per client, and of records of each kind.
+     */
+    public static void main(String[] args) throws Exception {
+        final int clients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        final int requests = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_REQUESTS;
+        final int records = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RECORDS;
+        Logging.setUp();
+        final Data data = new Data();
+        new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).fill(data, records);
+        final CommandServer server = new CommandServer(data, 0);
+        final String baseUri = "http://localhost:" + server.start() + "/";
+        final HttpClient client = HttpClient.newHttpClient();
+        final ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            final List<Future<long[]>> results = new ArrayList<>();
+            final long startTime = System.nanoTime();
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(() -> sendAll(client, baseUri, requests)));
+            }
+            final List<long[]> latencies = new ArrayList<>();
+            for (Future<long[]> result : results) {
+                latencies.add(result.get());
+            }
+            final long elapsedTime = System.nanoTime() - startTime;
+            report(latencies, clients * requests, elapsedTime);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            server.stop();
+        }
+    }
+
+    /**
+     * Sends the requests of a client and returns the latencies of those after the warmup.
+     */
+    private static long[] sendAll(HttpClient client, String baseUri, int requests)
+            throws IOException, InterruptedException {
+        final String date = LocalDate.now().minusDays(1).toString();
+        final HttpRequest[] queries = {
+            get(baseUri, "list-activity", "--page 1"),
+            get(baseUri, "find-diet", date),
+            get(baseUri, "find", date),
+            get(baseUri, "list-diet-goal", ""),
+            get(baseUri, "list-sleep-goal", ""),
+        };
+        final HttpRequest add = HttpRequest.newBuilder(URI.create(baseUri + "add-diet"))
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "calories/500 protein/20 carb/50 fat/10 datetime/" + date + " 12:00"))
+                .build();
+        final int warmupRequests = requests / WARMUP_FRACTION;
+        final long[] latencies = new long[requests - warmupRequests];
+        for (int i = 0; i < requests; i++) {
+            final HttpRequest request = i % ADD_INTERVAL == 0 ? add : queries[i % queries.length];
+            final long startTime = System.nanoTime();
+            final HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            final long latency = System.nanoTime() - startTime;
+            if (response.statusCode() != CommandServer.STATUS_OK) {
+                throw new IllegalStateException(request.uri() + " failed: " + response.body());
+            }
+            if (i >= warmupRequests) {
+                latencies[i - warmupRequests] = latency;
+            }
+        }
+        return latencies;
+    }
+
+    private static HttpRequest get(String baseUri, String commandWord, String arguments) {
+        return HttpRequest.newBuilder(URI.create(baseUri + commandWord + "?args="
+                + URLEncoder.encode(arguments, StandardCharsets.UTF_8))).GET().build();
+    }
+
+    private static void report(List<long[]> latencies, int requestCount, long elapsedTime) {
+        final long[] sorted = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("requests: %d, elapsed: %.1f s, throughput: %.0f requests/s%n", requestCount,
+                elapsedTime / NANOSECONDS_PER_SECOND, requestCount * NANOSECONDS_PER_SECOND / elapsedTime);
+        System.out.printf("latency p50: %.2f ms, p99: %.2f ms, max: %.2f ms%n",
+                getPercentile(sorted, 50) / NANOSECONDS_PER_MILLISECOND,
+                getPercentile(sorted, 99) / NANOSECONDS_PER_MILLISECOND,
+                sorted[sorted.length - 1] / NANOSECONDS_PER_MILLISECOND);
+    }
+
+    private static long getPercentile(long[] sorted, int percentile) {
+        final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+}
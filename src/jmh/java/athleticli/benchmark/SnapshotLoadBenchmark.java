@@ -0,0 +1,93 @@
+package athleticli.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import athleticli.common.Config;
+import athleticli.data.activity.Activity;
+import athleticli.data.activity.ActivityList;
+import athleticli.exceptions.AthletiException;
+import athleticli.exceptions.WrappedAthletiException;
+import athleticli.storage.Storage;
+
+/**
+ * Compares parsing a snapshot of activities read through <code>Files.lines</code>, which decodes every line into a
+ * <code>String</code>, with parsing it from the mapped lines of <code>Storage.loadLines</code>.
+ * The files are kept in a temporary directory instead of <code>./data</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SnapshotLoadBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int recordCount;
+    private final ActivityList parser = new ActivityList();
+    private Path directory;
+    private String path;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("athleticli-benchmark");
+        new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).write(directory, recordCount);
+        path = directory.resolve(Path.of(Config.PATH_ACTIVITY).getFileName()).toString();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<Activity> filesLines() throws IOException, AthletiException {
+        final List<Activity> activities = new ArrayList<>();
+        try (Stream<String> lines = Storage.load(path)) {
+            final Iterator<String> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                activities.add(parser.parse(iterator.next()));
+            }
+        }
+        return activities;
+    }
+
+    @Benchmark
+    public List<Activity> mappedLines() throws IOException, AthletiException {
+        final List<Activity> activities = new ArrayList<>();
+        try {
+            Storage.loadLines(path, line -> {
+                try {
+                    activities.add(parser.parse(line));
+                } catch (AthletiException e) {
+                    throw new WrappedAthletiException(e);
+                }
+            });
+        } catch (WrappedAthletiException e) {
+            throw e.getCause();
+        }
+        return activities;
+    }
+}
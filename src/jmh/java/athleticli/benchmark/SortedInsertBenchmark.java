@@ -0,0 +1,71 @@
+package athleticli.benchmark;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import athleticli.data.activity.Activity;
+import athleticli.data.activity.ActivityList;
+
+/**
+ * Measures adding an activity to a sorted history of different sizes, either by appending it and re-sorting the
+ * list as the add command used to, or by inserting it in order.
+ * Every invocation removes the activity again, so that the history keeps its size.
+ * The activity is the latest one, which is the usual case and is inserted at the front of the list in constant
+ * time. {@link #addInOrderMiddle()} inserts an activity in the middle of the history instead, which still shifts
+ * half of the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SortedInsertBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int recordCount;
+    private ActivityList activities;
+    private Activity activity;
+    private Activity middleActivity;
+
+    @Setup
+    public void setUp() {
+        final SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+        activities = new ActivityList();
+        for (int i = 0; i < recordCount; i++) {
+            activities.add(generator.createActivity(i));
+        }
+        final Activity latest = activities.get(0);
+        activity = new Activity("Benchmark", LocalTime.of(1, 0), 10_000, latest.getStartDateTime().plusHours(1));
+        final Activity middle = activities.get(recordCount / 2);
+        middleActivity = new Activity("Benchmark", LocalTime.of(1, 0), 10_000, middle.getStartDateTime());
+    }
+
+    @Benchmark
+    public Activity addAndSort() {
+        activities.add(activity);
+        activities.sort();
+        return activities.remove(0);
+    }
+
+    @Benchmark
+    public Activity addInOrder() {
+        return activities.remove(activities.addInOrder(activity));
+    }
+
+    @Benchmark
+    public Activity addInOrderMiddle() {
+        return activities.remove(activities.addInOrder(middleActivity));
+    }
+}
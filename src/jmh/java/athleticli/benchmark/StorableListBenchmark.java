@@ -0,0 +1,94 @@
+package athleticli.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import athleticli.common.Config;
+import athleticli.data.StorableList;
+import athleticli.data.activity.Activity;
+import athleticli.data.activity.ActivityList;
+import athleticli.exceptions.AthletiException;
+
+/**
+ * Measures loading and saving a list of activities of different sizes.
+ * The files are kept in a temporary directory instead of <code>./data</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StorableListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int recordCount;
+    private Path directory;
+    private String path;
+    private ActivityFile loadedList;
+
+    /**
+     * Stores activities in a file of the benchmark instead of the one in <code>Config</code>.
+     */
+    private static class ActivityFile extends StorableList<Activity> {
+        private final ActivityList parser = new ActivityList();
+
+        ActivityFile(String path) {
+            super(path);
+        }
+
+        @Override
+        public Activity parse(CharSequence s) throws AthletiException {
+            return parser.parse(s);
+        }
+
+        @Override
+        public String unparse(Activity activity) {
+            return parser.unparse(activity);
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException, AthletiException {
+        directory = Files.createTempDirectory("athleticli-benchmark");
+        new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).write(directory, recordCount);
+        path = directory.resolve(Path.of(Config.PATH_ACTIVITY).getFileName()).toString();
+        loadedList = new ActivityFile(path);
+        loadedList.load();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public StorableList<Activity> load() throws AthletiException {
+        final ActivityFile list = new ActivityFile(path);
+        list.load();
+        return list;
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        loadedList.save();
+    }
+}
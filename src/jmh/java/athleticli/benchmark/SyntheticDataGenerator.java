@@ -0,0 +1,205 @@
+package athleticli.benchmark;
+
+import static athleticli.common.Config.PATH_ACTIVITY;
+import static athleticli.common.Config.PATH_ACTIVITY_GOAL;
+import static athleticli.common.Config.PATH_DIET;
+import static athleticli.common.Config.PATH_DIET_GOAL;
+import static athleticli.common.Config.PATH_SLEEP;
+import static athleticli.common.Config.PATH_SLEEP_GOAL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import athleticli.data.Data;
+import athleticli.data.Goal;
+import athleticli.data.StorableList;
+import athleticli.data.activity.Activity;
+import athleticli.data.activity.ActivityGoal;
+import athleticli.data.activity.ActivityGoalList;
+import athleticli.data.activity.ActivityList;
+import athleticli.data.activity.Cycle;
+import athleticli.data.activity.Run;
+import athleticli.data.activity.Swim;
+import athleticli.data.diet.Diet;
+import athleticli.data.diet.DietGoal;
+import athleticli.data.diet.DietGoalList;
+import athleticli.data.diet.DietList;
+import athleticli.data.diet.HealthyDietGoal;
+import athleticli.data.diet.UnhealthyDietGoal;
+import athleticli.data.sleep.Sleep;
+import athleticli.data.sleep.SleepGoal;
+import athleticli.data.sleep.SleepGoalList;
+import athleticli.data.sleep.SleepList;
+import athleticli.exceptions.AthletiException;
+import athleticli.exceptions.WrappedAthletiException;
+import athleticli.parser.Parameter;
+import athleticli.storage.Storage;
+
+/**
+ * Generates realistic records for benchmarking, either in memory or as data files.
+ * The records go back in time from yesterday at fixed intervals, so that none of them is in the future
+ * and no two sleeps overlap. The same seed always generates the same records.
+ */
+public class SyntheticDataGenerator {
+    public static final long DEFAULT_SEED = 2103;
+    private static final int DEFAULT_COUNT = 100_000;
+    private static final String DEFAULT_DIRECTORY = "./data";
+    private static final long ACTIVITY_INTERVAL_MINUTES = 180;
+    private static final long DIET_INTERVAL_MINUTES = 120;
+    private static final long SLEEP_INTERVAL_MINUTES = 360;
+    private static final String[] CAPTIONS = {
+        "Morning Run", "Evening Ride", "Lunch Swim", "Commute", "Hill Repeats", "Recovery", "Long Run", "Intervals"
+    };
+    private final Random random;
+    private final LocalDateTime latest = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+    /**
+     * Constructs a generator.
+     *
+     * @param seed The seed of the random values in the records.
+     */
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Writes the records to the data files in a directory.
+     * Usage: <code>SyntheticDataGenerator DIRECTORY [COUNT]</code>. The directory has no default,
+     * so that the real data in <code>./data</code> is never overwritten by accident.
+     *
+     * @param args The directory of the data files, and the number of records per file.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: SyntheticDataGenerator DIRECTORY [COUNT], e.g. " + DEFAULT_DIRECTORY + " "
+                    + DEFAULT_COUNT);
+            System.exit(1);
+        }
+        final int count = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_COUNT;
+        new SyntheticDataGenerator(DEFAULT_SEED).write(Path.of(args[0]), count);
+        System.out.printf("Wrote %d activities, diets and sleeps to %s%n", count, args[0]);
+    }
+
+    /**
+     * Returns the <code>index</code>-th latest activity, which is a run, a cycle, a swim or a general activity.
+     *
+     * @param index The position of the activity counting back from the latest one.
+     * @return      The activity.
+     */
+    public Activity createActivity(int index) {
+        final LocalDateTime startDateTime = latest.minusMinutes(index * ACTIVITY_INTERVAL_MINUTES);
+        final String caption = CAPTIONS[random.nextInt(CAPTIONS.length)];
+        final LocalTime movingTime = LocalTime.ofSecondOfDay(600 + random.nextInt(3 * 3600));
+        final int distance = 1000 + random.nextInt(40_000);
+        switch (random.nextInt(4)) {
+        case 0:
+            return new Run(caption, movingTime, distance, startDateTime, random.nextInt(500));
+        case 1:
+            return new Cycle(caption, movingTime, distance, startDateTime, random.nextInt(2000));
+        case 2:
+            final Swim.SwimmingStyle[] styles = Swim.SwimmingStyle.values();
+            return new Swim(caption, movingTime, distance / 10, startDateTime, styles[random.nextInt(styles.length)]);
+        default:
+            return new Activity(caption, movingTime, distance, startDateTime);
+        }
+    }
+
+    /**
+     * Returns the <code>index</code>-th latest diet.
+     *
+     * @param index The position of the diet counting back from the latest one.
+     * @return      The diet.
+     */
+    public Diet createDiet(int index) {
+        return new Diet(100 + random.nextInt(1200), random.nextInt(80), random.nextInt(150), random.nextInt(60),
+                latest.minusMinutes(index * DIET_INTERVAL_MINUTES));
+    }
+
+    /**
+     * Returns the <code>index</code>-th latest sleep, which is shorter than the interval between two sleeps.
+     *
+     * @param index The position of the sleep counting back from the latest one.
+     * @return      The sleep.
+     */
+    public Sleep createSleep(int index) {
+        final LocalDateTime startDateTime = latest.minusMinutes(index * SLEEP_INTERVAL_MINUTES);
+        try {
+            return new Sleep(startDateTime, startDateTime.plusMinutes(60 + random.nextInt(240)));
+        } catch (AthletiException e) {
+            throw new WrappedAthletiException(e);
+        }
+    }
+
+    /**
+     * Adds the records and a few goals of every kind to the data.
+     * The lists have not been loaded, so nothing is written to the files.
+     *
+     * @param data  The data to be filled.
+     * @param count The number of activities, diets and sleeps each.
+     */
+    public void fill(Data data, int count) {
+        for (int i = 0; i < count; i++) {
+            data.getActivities().add(createActivity(i));
+            data.getDiets().add(createDiet(i));
+            data.getSleeps().add(createSleep(i));
+        }
+        data.getActivityGoals().addAll(createActivityGoals());
+        data.getDietGoals().addAll(createDietGoals());
+        data.getSleepGoals().addAll(createSleepGoals());
+    }
+
+    /**
+     * Writes the records and a few goals of every kind to the data files in the directory.
+     * The records are generated while being written, so the count is not limited by the heap.
+     *
+     * @param directory The directory of the data files.
+     * @param count     The number of activities, diets and sleeps each.
+     */
+    public void write(Path directory, int count) throws IOException {
+        write(directory, PATH_ACTIVITY, IntStream.range(0, count).mapToObj(this::createActivity), new ActivityList());
+        write(directory, PATH_DIET, IntStream.range(0, count).mapToObj(this::createDiet), new DietList());
+        write(directory, PATH_SLEEP, IntStream.range(0, count).mapToObj(this::createSleep), new SleepList());
+        write(directory, PATH_ACTIVITY_GOAL, createActivityGoals().stream(), new ActivityGoalList());
+        write(directory, PATH_DIET_GOAL, createDietGoals().stream(), new DietGoalList());
+        write(directory, PATH_SLEEP_GOAL, createSleepGoals().stream(), new SleepGoalList());
+    }
+
+    /**
+     * Writes the items to the file of a list in the directory, unparsed by an empty list of the same kind.
+     */
+    private <T> void write(Path directory, String path, Stream<? extends T> items, StorableList<T> list)
+            throws IOException {
+        final Path file = directory.resolve(Path.of(path).getFileName());
+        Storage.save(file.toString(), items.map(item -> list.unparse(item) + "\n"));
+    }
+
+    private List<ActivityGoal> createActivityGoals() {
+        return List.of(
+                new ActivityGoal(Goal.TimeSpan.WEEKLY, ActivityGoal.GoalType.DISTANCE, ActivityGoal.Sport.RUNNING,
+                        30_000),
+                new ActivityGoal(Goal.TimeSpan.MONTHLY, ActivityGoal.GoalType.DURATION, ActivityGoal.Sport.CYCLING,
+                        600),
+                new ActivityGoal(Goal.TimeSpan.YEARLY, ActivityGoal.GoalType.DISTANCE, ActivityGoal.Sport.GENERAL,
+                        2_000_000));
+    }
+
+    private List<DietGoal> createDietGoals() {
+        return List.of(
+                new HealthyDietGoal(Goal.TimeSpan.DAILY, Parameter.NUTRIENTS_PROTEIN, 100),
+                new HealthyDietGoal(Goal.TimeSpan.WEEKLY, Parameter.NUTRIENTS_CALORIES, 14_000),
+                new UnhealthyDietGoal(Goal.TimeSpan.WEEKLY, Parameter.NUTRIENTS_FAT, 500));
+    }
+
+    private List<SleepGoal> createSleepGoals() {
+        return List.of(
+                new SleepGoal(SleepGoal.GoalType.DURATION, Goal.TimeSpan.DAILY, 480),
+                new SleepGoal(SleepGoal.GoalType.DURATION, Goal.TimeSpan.WEEKLY, 3360));
+    }
+}
@@ -1,32 +1,54 @@
 package athleticli;
 
+import static athleticli.common.Config.AUTOSAVE_INTERVAL;
+import static athleticli.common.Config.AUTOSAVE_MUTATIONS;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.logging.ConsoleHandler;
-import java.util.logging.FileHandler;
-import java.util.logging.LogManager;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import athleticli.commands.Command;
 import athleticli.commands.SaveCommand;
+import athleticli.common.Logging;
+import athleticli.data.AutosaveScheduler;
 import athleticli.data.Data;
+import athleticli.data.ProfileManager;
 import athleticli.exceptions.AthletiException;
 import athleticli.parser.Parser;
+import athleticli.ui.Message;
 import athleticli.ui.Ui;
 
 /**
  * Defines the basic structure and the behavior of AthletiCLI.
  */
 public class AthletiCLI {
+    /* the codes the process exits with in the batch and server modes */
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_FILE_UNREADABLE = 2;
+    public static final int EXIT_LOAD_FAILED = 3;
+    public static final int EXIT_USAGE = 4;
+    public static final int EXIT_PORT_UNAVAILABLE = 5;
+    private static final int MAX_PORT = 65535;
     private static Logger logger = Logger.getLogger(AthletiCLI.class.getName());
     private static Ui ui = Ui.getInstance();
     private static Data data = Data.getInstance();
+    private static ProfileManager profileManager = ProfileManager.getInstance();
+    private static AutosaveScheduler autosave = new AutosaveScheduler(data, AUTOSAVE_INTERVAL, AUTOSAVE_MUTATIONS);
 
     private static Thread runSaveCommand = new Thread(() -> {
-        try {
-            final String[] feedback = new SaveCommand().execute(data);
-            ui.showMessages(feedback);
-        } catch (AthletiException e) {
-            ui.showException(e);
+        /* the profiles switched from are still loaded and may have unsaved records */
+        for (Data profileData : profileManager.getLoadedData()) {
+            try {
+                final String[] feedback = new SaveCommand().execute(profileData);
+                ui.showMessages(feedback);
+            } catch (AthletiException e) {
+                ui.showException(e);
+            }
         }
     });
 
@@ -34,21 +56,70 @@ public class AthletiCLI {
      * Constructs an <code>AthletiCLI</code> object.
      */
     private AthletiCLI() {
-        LogManager.getLogManager().reset();
-        try {
-            logger.addHandler(new FileHandler("%t/athleticli-log.txt"));
-        } catch(IOException e) {
-            logger.addHandler(new ConsoleHandler());
-        }
+        Logging.setUp();
     }
 
     /**
-     * Creates an `AthletiCLI` object and runs it.
+     * Creates an `AthletiCLI` object and runs it, either interactively without any argument,
+     * on the commands in a file given by <code>--batch FILE</code>, exiting with the code of {@link BatchRunner},
+     * or as a {@link CommandServer} on the port given by <code>--serve PORT</code>.
+     * Exits with {@link #EXIT_USAGE} if the arguments match neither.
      *
      * @param args  Arguments obtained from the command line.
      */
     public static void main(String[] args) {
-        new AthletiCLI().run();
+        if (args.length == 0) {
+            new AthletiCLI().run();
+            return;
+        }
+        if (args.length != 2 || !args[0].equals("--batch") && !args[0].equals("--serve")) {
+            System.err.println(Message.MESSAGE_USAGE);
+            System.exit(EXIT_USAGE);
+        }
+        new AthletiCLI();
+        if (args[0].equals("--serve")) {
+            serve(args[1]);
+            return;
+        }
+        final Ui batchUi = new Ui(InputStream.nullInputStream(), new FileOutputStream(FileDescriptor.out), false);
+        System.exit(new BatchRunner(data, batchUi).run(Path.of(args[1])));
+    }
+
+    /**
+     * Loads the data and serves it until the JVM is shut down, e.g., by Ctrl-C, when the data is saved.
+     * Meanwhile, the data is saved in the background by an {@link AutosaveScheduler}.
+     * Exits with {@link #EXIT_USAGE} if the port is invalid, {@link #EXIT_LOAD_FAILED} if the data cannot be loaded,
+     * or {@link #EXIT_PORT_UNAVAILABLE} if the port cannot be bound.
+     *
+     * @param port The port to listen on.
+     */
+    private static void serve(String port) {
+        final int portNumber = Parser.parseDigits(port);
+        if (portNumber == Parser.NOT_DIGITS || portNumber > MAX_PORT) {
+            System.err.println(String.format(Message.MESSAGE_SERVER_PORT_INVALID, port));
+            System.exit(EXIT_USAGE);
+        }
+        try {
+            data.load();
+        } catch (AthletiException e) {
+            ui.showException(e);
+            System.exit(EXIT_LOAD_FAILED);
+        }
+        final CommandServer server;
+        try {
+            server = new CommandServer(data, portNumber);
+        } catch (IOException e) {
+            System.err.println(String.format(Message.MESSAGE_SERVER_PORT_INVALID, port) + ": " + e.getMessage());
+            System.exit(EXIT_PORT_UNAVAILABLE);
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            autosave.stop();
+            runSaveCommand.run();
+        }));
+        autosave.start();
+        ui.showMessages(String.format(Message.MESSAGE_SERVER_STARTED, server.start()));
     }
 
     /**
@@ -69,10 +140,10 @@ public class AthletiCLI {
         while (!isExit) {
             final String rawUserInput = ui.getUserCommand();
             try {
-                logger.info("Command read: " + rawUserInput);
+                logger.log(Level.INFO, "Command read: {0}", rawUserInput);
                 final Command command = Parser.parseCommand(rawUserInput);
-                final String[] feedback = command.execute(data);
-                ui.showMessages(feedback);
+                command.executeLocked(profileManager.getCurrentData(), ui::showMessages);
+                autosave.setData(profileManager.getCurrentData());
                 logger.info("Command executed successfully");
                 isExit = command.isExit();
                 /* add shutdown hook if the first valid command is not exit */
@@ -80,10 +151,12 @@ public class AthletiCLI {
                     /* save data when the JVM begins its shutdown sequence */
                     Runtime.getRuntime().addShutdownHook(runSaveCommand);
                     isShutdownHookAdded = true;
+                    /* save in the background as well, in case the JVM is killed */
+                    autosave.start();
                 }
             } catch (AthletiException e) {
                 ui.showException(e);
-                logger.warning("Exception caught: " + e);
+                logger.log(Level.WARNING, "Exception caught: {0}", e);
             }
         }
         logger.exiting(getClass().getName(), "run");
@@ -0,0 +1,196 @@
+package athleticli;
+
+import static athleticli.AthletiCLI.EXIT_COMMAND_FAILED;
+import static athleticli.AthletiCLI.EXIT_FILE_UNREADABLE;
+import static athleticli.AthletiCLI.EXIT_LOAD_FAILED;
+import static athleticli.AthletiCLI.EXIT_SUCCESS;
+import static athleticli.common.Config.BATCH_QUEUE_CAPACITY;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import athleticli.commands.Command;
+import athleticli.commands.SaveCommand;
+import athleticli.commands.SwitchProfileCommand;
+import athleticli.data.Data;
+import athleticli.exceptions.AthletiException;
+import athleticli.parser.Parser;
+import athleticli.ui.Message;
+import athleticli.ui.Ui;
+
+/**
+ * Executes the commands in a file without any prompt, e.g., to import a large log of records.
+ * The file is read and parsed on a background thread ahead of the commands being executed,
+ * so that parsing overlaps with execution. The data is saved once at the end.
+ */
+public class BatchRunner {
+    private static final Logger logger = Logger.getLogger(BatchRunner.class.getName());
+    private final Data data;
+    private final Ui ui;
+
+    /**
+     * Represents a line of the file, parsed into either a command or the exception thrown by the parser.
+     * The end of the file is marked by a line without a command or an exception, and a failure of the
+     * parsing thread itself by a line with only that failure.
+     */
+    private static class ParsedLine {
+        private final int number;
+        private final Command command;
+        private final AthletiException exception;
+        private final Exception failure;
+
+        ParsedLine(int number, Command command, AthletiException exception, Exception failure) {
+            this.number = number;
+            this.command = command;
+            this.exception = exception;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Constructs a runner.
+     *
+     * @param data  The data the commands are executed on.
+     * @param ui    The UI showing the responses of the commands.
+     */
+    public BatchRunner(Data data, Ui ui) {
+        this.data = data;
+        this.ui = ui;
+    }
+
+    /**
+     * Loads the data, executes the commands in the file until its end or a <code>bye</code> command,
+     * and then saves the data. Blank lines are skipped, and a failed command does not stop the others.
+     * Mutations are not journaled, as the data is saved at once at the end.
+     *
+     * @param file  The file containing one command per line.
+     * @return      {@link AthletiCLI#EXIT_SUCCESS} if all commands succeeded, {@link AthletiCLI#EXIT_COMMAND_FAILED}
+     *              if any command or the final save failed, {@link AthletiCLI#EXIT_FILE_UNREADABLE} if the file could
+     *              not be read to its end, or {@link AthletiCLI#EXIT_LOAD_FAILED} if the data could not be loaded,
+     *              in which case nothing is executed.
+     */
+    public int run(Path file) {
+        if (!Files.isReadable(file)) {
+            ui.showMessages(String.format(Message.MESSAGE_BATCH_FILE_UNREADABLE, file));
+            ui.flush();
+            return EXIT_FILE_UNREADABLE;
+        }
+        try {
+            data.load();
+        } catch (AthletiException e) {
+            /* unlike the interactive mode, the data is not cleared, as saving it would lose the stored records */
+            ui.showException(e);
+            ui.flush();
+            return EXIT_LOAD_FAILED;
+        }
+        data.stopJournaling();
+        int exitCode = executeAll(file);
+        try {
+            ui.showMessages(new SaveCommand().execute(data));
+        } catch (AthletiException e) {
+            ui.showException(e);
+            exitCode = Math.max(exitCode, EXIT_COMMAND_FAILED);
+        }
+        ui.flush();
+        return exitCode;
+    }
+
+    /**
+     * Executes the commands in the file on the data as loaded, while the file is parsed ahead on another thread.
+     *
+     * @param file  The file containing one command per line.
+     * @return      The exit code before saving the data.
+     */
+    int executeAll(Path file) {
+        final BlockingQueue<ParsedLine> queue = new ArrayBlockingQueue<>(BATCH_QUEUE_CAPACITY);
+        final Thread parser = new Thread(() -> parse(file, queue), "athleticli-batch-parser");
+        parser.setDaemon(true);
+        parser.start();
+        try {
+            return execute(queue);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EXIT_COMMAND_FAILED;
+        } finally {
+            parser.interrupt();
+        }
+    }
+
+    /**
+     * Executes the parsed lines in order until the end of the file or a <code>bye</code> command.
+     *
+     * @return The exit code so far.
+     */
+    private int execute(BlockingQueue<ParsedLine> queue) throws InterruptedException {
+        int exitCode = EXIT_SUCCESS;
+        while (true) {
+            final ParsedLine line = queue.take();
+            if (line.failure instanceof RuntimeException) {
+                /* a bug in the parser, which would have ended the interactive mode as well */
+                throw (RuntimeException) line.failure;
+            }
+            if (line.failure != null) {
+                ui.showMessages(String.format(Message.MESSAGE_BATCH_FILE_UNREADABLE, line.failure));
+                return EXIT_FILE_UNREADABLE;
+            }
+            if (line.command == null && line.exception == null) {
+                return exitCode;
+            }
+            try {
+                if (line.exception != null) {
+                    throw line.exception;
+                }
+                if (line.command instanceof SwitchProfileCommand) {
+                    /* the batch is executed on the data loaded and saved by this runner */
+                    throw new AthletiException(Message.MESSAGE_PROFILE_BATCH);
+                }
+                line.command.executeLocked(data, ui::showMessages);
+                if (line.command.isExit()) {
+                    return exitCode;
+                }
+            } catch (AthletiException e) {
+                ui.showMessages(String.format(Message.MESSAGE_BATCH_LINE_FAILED, line.number,
+                        Message.PREFIX_EXCEPTION + e.getMessage()));
+                logger.log(Level.WARNING, "Line {0} failed: {1}", new Object[]{line.number, e});
+                exitCode = EXIT_COMMAND_FAILED;
+            }
+        }
+    }
+
+    /**
+     * Reads and parses the lines of the file into the queue, followed by the end marker.
+     * Parsing does not depend on the data, so it can run ahead of the execution.
+     */
+    private static void parse(Path file, BlockingQueue<ParsedLine> queue) {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            int number = 0;
+            String rawUserInput;
+            while ((rawUserInput = reader.readLine()) != null) {
+                number++;
+                if (rawUserInput.isBlank()) {
+                    continue;
+                }
+                try {
+                    queue.put(new ParsedLine(number, Parser.parseCommand(rawUserInput), null, null));
+                } catch (AthletiException e) {
+                    queue.put(new ParsedLine(number, null, e, null));
+                }
+            }
+            queue.put(new ParsedLine(number, null, null, null));
+        } catch (IOException | RuntimeException e) {
+            try {
+                queue.put(new ParsedLine(0, null, null, e));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
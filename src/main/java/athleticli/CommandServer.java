@@ -0,0 +1,262 @@
+package athleticli;
+
+import static athleticli.common.Config.SERVER_THREAD_COUNT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import athleticli.commands.Command;
+import athleticli.data.Data;
+import athleticli.exceptions.AthletiException;
+import athleticli.parser.CommandRegistry;
+import athleticli.ui.Message;
+
+/**
+ * Serves the list, find, add and goal commands as JSON endpoints on the loopback interface, so that other tools
+ * can query the data without scripting the interactive mode. The path of a request is the command word, and its
+ * arguments are the <code>args</code> query parameter of a <code>GET</code> request for list, find and goal
+ * commands, or the body of a <code>POST</code> request for add commands.
+ * For example, <code>GET /find-sleep?args=2023-10-10</code> executes <code>find-sleep 2023-10-10</code>.
+ * Requests are handled concurrently on a pool of threads. Commands only reading the data are executed at the same
+ * time, while an add command waits for the others and runs alone.
+ * Requests sent by web pages are rejected, so that a page open in a browser cannot add records or read them:
+ * requests carrying an <code>Origin</code> header are refused, and so are requests whose <code>Host</code> header
+ * does not name the loopback interface and the port of the server, as a rebound DNS name would.
+ */
+public class CommandServer {
+    public static final int STATUS_OK = 200;
+    public static final int STATUS_BAD_REQUEST = 400;
+    public static final int STATUS_FORBIDDEN = 403;
+    public static final int STATUS_NOT_FOUND = 404;
+    public static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    public static final int STATUS_INTERNAL_ERROR = 500;
+    private static final Logger logger = Logger.getLogger(CommandServer.class.getName());
+    private static final String METHOD_GET = "GET";
+    private static final String METHOD_POST = "POST";
+    private static final String ARGS_PARAMETER = "args=";
+    private static final String[] LOOPBACK_HOSTS = {"localhost", "127.0.0.1", "[::1]"};
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    /* the number of seconds to wait for the requests being handled when the server is stopped */
+    private static final int STOP_DELAY = 1;
+    private final Data data;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a server, which does not accept requests until it is started.
+     *
+     * @param data          The data the commands are executed on.
+     * @param port          The port to listen on, or 0 for any free port.
+     * @throws IOException  If the port cannot be bound.
+     */
+    public CommandServer(Data data, int port) throws IOException {
+        this.data = data;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        final AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(SERVER_THREAD_COUNT,
+                runnable -> new Thread(runnable, "athleticli-server-" + threadCount.incrementAndGet()));
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts accepting requests.
+     *
+     * @return The port the server listens on.
+     */
+    public int start() {
+        server.start();
+        logger.info(() -> "Serving on port " + getPort());
+        return getPort();
+    }
+
+    /**
+     * Stops accepting requests, and stops the threads once the requests being handled are done.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The port the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            final String commandWord = exchange.getRequestURI().getPath().substring(1);
+            final String expectedMethod = getMethod(commandWord);
+            if (!isLocalRequest(exchange)) {
+                respond(exchange, STATUS_FORBIDDEN, toErrorJson(Message.MESSAGE_SERVER_FORBIDDEN));
+            } else if (expectedMethod == null) {
+                respond(exchange, STATUS_NOT_FOUND, toErrorJson(Message.MESSAGE_UNKNOWN_COMMAND));
+            } else if (!expectedMethod.equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", expectedMethod);
+                respond(exchange, STATUS_METHOD_NOT_ALLOWED,
+                        toErrorJson(String.format(Message.MESSAGE_SERVER_METHOD, expectedMethod)));
+            } else {
+                handleCommand(exchange, commandWord, expectedMethod);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleCommand(HttpExchange exchange, String commandWord, String method) throws IOException {
+        try {
+            final String arguments = method.equals(METHOD_GET)
+                    ? getQueryArguments(exchange.getRequestURI().getRawQuery())
+                    : readBody(exchange.getRequestBody());
+            respond(exchange, STATUS_OK, toMessagesJson(execute(commandWord, arguments)));
+        } catch (AthletiException e) {
+            respond(exchange, STATUS_BAD_REQUEST, toErrorJson(e.getMessage()));
+        } catch (RuntimeException e) {
+            /* a bug in a command, which would have ended the interactive mode, only fails its own request */
+            logger.log(Level.SEVERE, "Command failed: " + commandWord, e);
+            respond(exchange, STATUS_INTERNAL_ERROR, toErrorJson(e.toString()));
+        }
+    }
+
+    /**
+     * Returns whether a request was sent by a local tool rather than a web page, i.e., it carries no
+     * <code>Origin</code> header and its <code>Host</code> header is a loopback name with the port of the server.
+     */
+    private boolean isLocalRequest(HttpExchange exchange) {
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            return false;
+        }
+        final String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null) {
+            return false;
+        }
+        for (String loopbackHost : LOOPBACK_HOSTS) {
+            if (host.equalsIgnoreCase(loopbackHost + ":" + getPort())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the method of the requests for a command, or null if the command is not served.
+     * Only commands that do not change or remove existing records are served.
+     */
+    private static String getMethod(String commandWord) {
+        if (CommandRegistry.getInstance().getHelp(commandWord) == null) {
+            return null;
+        }
+        if (commandWord.startsWith("list-") || commandWord.startsWith("find")) {
+            return METHOD_GET;
+        }
+        if (commandWord.startsWith("add-")) {
+            return METHOD_POST;
+        }
+        return null;
+    }
+
+    /**
+     * Parses the command without holding the lock on the data, then executes it while holding the lock.
+     */
+    private List<String> execute(String commandWord, String arguments) throws AthletiException {
+        final Command command = CommandRegistry.getInstance().parse(commandWord + " " + arguments);
+        final List<String> messages = new ArrayList<>();
+        command.executeLocked(data, stream -> stream.forEachOrdered(messages::add));
+        return messages;
+    }
+
+    private static String getQueryArguments(String rawQuery) {
+        if (rawQuery == null) {
+            return "";
+        }
+        for (String parameter : rawQuery.split("&")) {
+            if (parameter.startsWith(ARGS_PARAMETER)) {
+                return URLDecoder.decode(parameter.substring(ARGS_PARAMETER.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    private static String readBody(InputStream body) throws IOException {
+        return new String(body.readAllBytes(), StandardCharsets.UTF_8).strip();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+
+    private static String toMessagesJson(List<String> messages) {
+        final StringBuilder json = new StringBuilder("{\"messages\":[");
+        for (int i = 0; i < messages.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendJsonString(json, messages.get(i));
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String toErrorJson(String message) {
+        final StringBuilder json = new StringBuilder("{\"error\":");
+        appendJsonString(json, message);
+        return json.append('}').toString();
+    }
+
+    /**
+     * Appends a string as a JSON string literal, escaping quotes, backslashes and control characters.
+     */
+    static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < ' ') {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -23,4 +23,14 @@ public class ByeCommand extends Command {
     public String[] execute(Data data) throws AthletiException {
         return new String[] {Message.MESSAGE_BYE};
     }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
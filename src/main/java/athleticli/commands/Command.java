@@ -1,5 +1,9 @@
 package athleticli.commands;
 
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 import athleticli.data.Data;
 import athleticli.exceptions.AthletiException;
 
@@ -16,6 +20,49 @@ public abstract class Command {
      */
     public abstract String[] execute(Data data) throws AthletiException;
 
+    /**
+     * Executes the command and returns the messages to be shown to the user as a stream.
+     * Commands with long outputs override this to generate their messages while they are being shown,
+     * so that the whole output is never held in memory. Any exception is thrown before the stream is returned.
+     *
+     * @param data              The current data.
+     * @return                  The messages to be shown to the user.
+     * @throws AthletiException
+     */
+    public Stream<String> executeAsStream(Data data) throws AthletiException {
+        return Arrays.stream(execute(data));
+    }
+
+    /**
+     * Executes the command while holding the lock on the data, and passes the messages to the consumer
+     * before the lock is released, as they may be generated from the data while being consumed.
+     * The lock is shared with other commands if this command only reads the data.
+     *
+     * @param data              The current data.
+     * @param consumer          The consumer of the messages to be shown to the user.
+     * @throws AthletiException
+     */
+    public void executeLocked(Data data, Consumer<Stream<String>> consumer) throws AthletiException {
+        final Data.LockedAction<Void> action = () -> {
+            consumer.accept(executeAsStream(data));
+            return null;
+        };
+        if (isReadOnly()) {
+            data.withReadLock(action);
+        } else {
+            data.withWriteLock(action);
+        }
+    }
+
+    /**
+     * Returns whether the command only reads the data, so that it may be executed along with other such commands.
+     *
+     * @return Whether the command does not modify the data.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
     /**
      * Returns <code>true</code> if this is a <code>ByeCommand</code> object, otherwise returns <code>false</code>.
      *
@@ -11,9 +11,21 @@ import athleticli.exceptions.AthletiException;
 
 public class FindCommand extends Command {
     protected LocalDate date;
+    protected LocalDate endDate;
 
     public FindCommand(LocalDate date) {
+        this(date, date);
+    }
+
+    /**
+     * Constructs a command finding the records from the start date to the end date, both inclusive.
+     *
+     * @param date The first date to be matched.
+     * @param endDate The last date to be matched.
+     */
+    public FindCommand(LocalDate date, LocalDate endDate) {
         this.date = date;
+        this.endDate = endDate;
     }
 
     /**
@@ -25,12 +37,22 @@ public class FindCommand extends Command {
      */
     @Override
     public String[] execute(Data data) throws AthletiException {
-        var activities = Stream.of(new FindActivityCommand(date).execute(data));
-        var diets = Stream.of(new FindDietCommand(date).execute(data));
-        var sleeps = Stream.of(new FindSleepCommand(date).execute(data));
+        var activities = Stream.of(new FindActivityCommand(date, endDate).execute(data));
+        var diets = Stream.of(new FindDietCommand(date, endDate).execute(data));
+        var sleeps = Stream.of(new FindSleepCommand(date, endDate).execute(data));
         return Stream.of(activities, diets, sleeps)
                 .reduce(Stream::concat)
                 .orElseGet(Stream::empty)
                 .toArray(String[]::new);
     }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -1,107 +1,10 @@
 package athleticli.commands;
 
-import static java.util.Map.entry;
-
-import java.util.Map;
-
 import athleticli.data.Data;
 import athleticli.exceptions.AthletiException;
-import athleticli.parser.CommandName;
-import athleticli.ui.Message;
+import athleticli.parser.CommandRegistry;
 
 public class HelpCommand extends Command {
-    private static final String[] HELP_ALL = {
-        /* Activity Management */
-        "\nActivity Management:",
-        Message.HELP_ADD_ACTIVITY,
-        Message.HELP_ADD_RUN,
-        Message.HELP_ADD_SWIM,
-        Message.HELP_ADD_CYCLE,
-        Message.HELP_DELETE_ACTIVITY,
-        Message.HELP_LIST_ACTIVITY,
-        Message.HELP_EDIT_ACTIVITY,
-        Message.HELP_EDIT_RUN,
-        Message.HELP_EDIT_SWIM,
-        Message.HELP_EDIT_CYCLE,
-        Message.HELP_FIND_ACTIVITY,
-        Message.HELP_SET_ACTIVITY_GOAL,
-        Message.HELP_EDIT_ACTIVITY_GOAL,
-        Message.HELP_DELETE_ACTIVITY_GOAL,
-        Message.HELP_LIST_ACTIVITY_GOAL,
-        /* Diet Management */
-        "\nDiet Management:",
-        Message.HELP_ADD_DIET,
-        Message.HELP_EDIT_DIET,
-        Message.HELP_DELETE_DIET,
-        Message.HELP_LIST_DIET,
-        Message.HELP_FIND_DIET,
-
-        Message.HELP_SET_DIET_GOAL,
-        Message.HELP_EDIT_DIET_GOAL,
-        Message.HELP_DELETE_DIET_GOAL,
-        Message.HELP_LIST_DIET_GOAL,
-        /* Sleep Management */
-        "\nSleep Management:",
-        Message.HELP_ADD_SLEEP,
-        Message.HELP_LIST_SLEEP,
-        Message.HELP_DELETE_SLEEP,
-        Message.HELP_EDIT_SLEEP,
-        Message.HELP_FIND_SLEEP,
-        Message.HELP_SET_SLEEP_GOAL,
-        Message.HELP_EDIT_SLEEP_GOAL,
-        Message.HELP_LIST_SLEEP_GOAL,
-        /* Misc */
-        "\nMisc:",
-        Message.HELP_FIND,
-        Message.HELP_SAVE,
-        Message.HELP_BYE,
-        Message.HELP_HELP,
-        "\n" + Message.HELP_DETAILS
-    };
-    private static final Map<String, String> HELP_MESSAGES = Map.ofEntries(
-            /* Activity Management */
-            entry(CommandName.COMMAND_ACTIVITY, Message.HELP_ADD_ACTIVITY),
-            entry(CommandName.COMMAND_RUN, Message.HELP_ADD_RUN),
-            entry(CommandName.COMMAND_SWIM, Message.HELP_ADD_SWIM),
-            entry(CommandName.COMMAND_CYCLE, Message.HELP_ADD_CYCLE),
-            entry(CommandName.COMMAND_ACTIVITY_DELETE, Message.HELP_DELETE_ACTIVITY),
-            entry(CommandName.COMMAND_ACTIVITY_LIST, Message.HELP_LIST_ACTIVITY),
-            entry(CommandName.COMMAND_ACTIVITY_EDIT, Message.HELP_EDIT_ACTIVITY),
-            entry(CommandName.COMMAND_RUN_EDIT, Message.HELP_EDIT_RUN),
-            entry(CommandName.COMMAND_SWIM_EDIT, Message.HELP_EDIT_SWIM),
-            entry(CommandName.COMMAND_CYCLE_EDIT, Message.HELP_EDIT_CYCLE),
-            entry(CommandName.COMMAND_ACTIVITY_FIND, Message.HELP_FIND_ACTIVITY),
-            entry(CommandName.COMMAND_ACTIVITY_GOAL_SET, Message.HELP_SET_ACTIVITY_GOAL),
-            entry(CommandName.COMMAND_ACTIVITY_GOAL_EDIT, Message.HELP_EDIT_ACTIVITY_GOAL),
-            entry(CommandName.COMMAND_ACTIVITY_GOAL_DELETE, Message.HELP_DELETE_ACTIVITY_GOAL),
-            entry(CommandName.COMMAND_ACTIVITY_GOAL_LIST, Message.HELP_LIST_ACTIVITY_GOAL),
-            /* Diet Management */
-            entry(CommandName.COMMAND_DIET_ADD, Message.HELP_ADD_DIET),
-            entry(CommandName.COMMAND_DIET_EDIT, Message.HELP_EDIT_DIET),
-            entry(CommandName.COMMAND_DIET_DELETE, Message.HELP_DELETE_DIET),
-            entry(CommandName.COMMAND_DIET_LIST, Message.HELP_LIST_DIET),
-            entry(CommandName.COMMAND_DIET_FIND, Message.HELP_FIND_DIET),
-
-            entry(CommandName.COMMAND_DIET_GOAL_SET, Message.HELP_SET_DIET_GOAL),
-            entry(CommandName.COMMAND_DIET_GOAL_EDIT, Message.HELP_EDIT_DIET_GOAL),
-            entry(CommandName.COMMAND_DIET_GOAL_DELETE, Message.HELP_DELETE_DIET_GOAL),
-            entry(CommandName.COMMAND_DIET_GOAL_LIST, Message.HELP_LIST_DIET_GOAL),
-            /* Sleep Management */
-            entry(CommandName.COMMAND_SLEEP_ADD, Message.HELP_ADD_SLEEP),
-            entry(CommandName.COMMAND_SLEEP_LIST, Message.HELP_LIST_SLEEP),
-            entry(CommandName.COMMAND_SLEEP_DELETE, Message.HELP_DELETE_SLEEP),
-            entry(CommandName.COMMAND_SLEEP_EDIT, Message.HELP_EDIT_SLEEP),
-            entry(CommandName.COMMAND_SLEEP_FIND, Message.HELP_FIND_SLEEP),
-            entry(CommandName.COMMAND_SLEEP_GOAL_SET, Message.HELP_SET_SLEEP_GOAL),
-            entry(CommandName.COMMAND_SLEEP_GOAL_EDIT, Message.HELP_EDIT_SLEEP_GOAL),
-            entry(CommandName.COMMAND_SLEEP_GOAL_LIST, Message.HELP_LIST_SLEEP_GOAL),
-            /* Misc */
-            entry(CommandName.COMMAND_FIND, Message.HELP_FIND),
-            entry(CommandName.COMMAND_SAVE, Message.HELP_SAVE),
-            entry(CommandName.COMMAND_BYE, Message.HELP_BYE),
-            entry(CommandName.COMMAND_HELP, Message.HELP_HELP)
-    );
-
     private String command;
     public HelpCommand(String command) {
         this.command = command;
@@ -116,10 +19,21 @@ public class HelpCommand extends Command {
      */
     @Override
     public String[] execute(Data data) throws AthletiException {
-        if (HELP_MESSAGES.containsKey(command)) {
-            return new String[] {"Usage: " + HELP_MESSAGES.get(command)};
+        final String help = CommandRegistry.getInstance().getHelp(command);
+        if (help != null) {
+            return new String[] {"Usage: " + help};
         } else {
-            return HELP_ALL;
+            return CommandRegistry.getInstance().getAllHelp();
         }
     }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
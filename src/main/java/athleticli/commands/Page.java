@@ -0,0 +1,75 @@
+package athleticli.commands;
+
+import athleticli.ui.Message;
+
+/**
+ * Represents the part of a list to be shown by a list command, as a page number and the size of a page.
+ */
+public class Page {
+    /* a single page holding the whole list */
+    public static final Page ALL = new Page(1, Integer.MAX_VALUE);
+    private final int number;
+    private final int limit;
+
+    /**
+     * Constructs a page.
+     *
+     * @param number    The 1-based page number.
+     * @param limit     The maximum number of items on a page.
+     */
+    public Page(int number, int limit) {
+        assert number > 0 : "Page number should be positive";
+        assert limit > 0 : "Page limit should be positive";
+        this.number = number;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns whether only a part of the list may be shown.
+     *
+     * @return Whether this is not the page holding the whole list.
+     */
+    public boolean isPartial() {
+        return limit != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the index of the first item on this page.
+     *
+     * @param size  The size of the list.
+     * @return      The 0-based index of the first item on this page, or the size if the list ends before it.
+     */
+    public int getStart(int size) {
+        return (int) Math.min(size, (long) (number - 1) * limit);
+    }
+
+    /**
+     * Returns the index after the last item on this page.
+     *
+     * @param size  The size of the list.
+     * @return      The 0-based index after the last item on this page.
+     */
+    public int getEnd(int size) {
+        return (int) Math.min(size, (long) number * limit);
+    }
+
+    /**
+     * Returns the message shown instead of this page if the list ends before it.
+     *
+     * @param size  The size of the list.
+     * @return      The message with the number of pages in the list.
+     */
+    public String getOutOfRangeMessage(int size) {
+        return String.format(Message.MESSAGE_PAGE_OUT_OF_RANGE, ((long) size + limit - 1) / limit);
+    }
+
+    /**
+     * Returns the message summarizing which items of the list are on this page.
+     *
+     * @param size  The size of the list.
+     * @return      The message with the 1-based indices of the first and the last item on this page.
+     */
+    public String getSummaryMessage(int size) {
+        return String.format(Message.MESSAGE_PAGE_SUMMARY, getStart(size) + 1, getEnd(size), size);
+    }
+}
@@ -1,6 +1,9 @@
 package athleticli.commands;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import athleticli.data.Data;
 import athleticli.exceptions.AthletiException;
@@ -8,7 +11,7 @@ import athleticli.ui.Message;
 
 public class SaveCommand extends Command {
     /**
-     * Saves the data into the file.
+     * Saves the modified data into the files.
      *
      * @param data The current data.
      * @return The messages to be shown to the user.
@@ -17,11 +20,29 @@ public class SaveCommand extends Command {
     @Override
     public String[] execute(Data data) throws AthletiException {
         assert data != null;
+        final ArrayList<String> savedPaths;
         try {
-            data.save();
+            savedPaths = data.save();
         } catch (IOException e) {
             throw new AthletiException(Message.MESSAGE_IO_EXCEPTION);
         }
-        return new String[] {Message.MESSAGE_SAVE};
+        if (savedPaths.isEmpty()) {
+            return new String[] {Message.MESSAGE_SAVE_NO_CHANGES};
+        }
+        return new String[] {Message.MESSAGE_SAVE, String.format(Message.MESSAGE_SAVE_FILES,
+                String.join(", ", savedPaths))};
+    }
+
+    /**
+     * Executes the command without holding the lock on the data, as {@link Data#save()} takes the lock
+     * only while copying the lists, and writes the files without it.
+     *
+     * @param data              The current data.
+     * @param consumer          The consumer of the messages to be shown to the user.
+     * @throws AthletiException
+     */
+    @Override
+    public void executeLocked(Data data, Consumer<Stream<String>> consumer) throws AthletiException {
+        consumer.accept(executeAsStream(data));
     }
 }
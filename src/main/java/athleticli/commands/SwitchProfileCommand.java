@@ -0,0 +1,63 @@
+package athleticli.commands;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import athleticli.data.Data;
+import athleticli.data.ProfileManager;
+import athleticli.exceptions.AthletiException;
+import athleticli.ui.Message;
+
+public class SwitchProfileCommand extends Command {
+    private final String profile;
+    private final ProfileManager profileManager;
+
+    /**
+     * Constructs a command switching to a profile of the singleton {@link ProfileManager}.
+     *
+     * @param profile The name of the profile to be used.
+     */
+    public SwitchProfileCommand(String profile) {
+        this(profile, ProfileManager.getInstance());
+    }
+
+    /**
+     * Constructs a command switching to a profile of a {@link ProfileManager}.
+     *
+     * @param profile           The name of the profile to be used.
+     * @param profileManager    The manager of the profiles.
+     */
+    public SwitchProfileCommand(String profile, ProfileManager profileManager) {
+        this.profile = profile;
+        this.profileManager = profileManager;
+    }
+
+    /**
+     * Uses the profile, so that the following commands are executed on its data.
+     *
+     * @param data              The current data, which is kept loaded.
+     * @return                  The messages to be shown to the user.
+     * @throws AthletiException If the data of the profile cannot be loaded.
+     */
+    @Override
+    public String[] execute(Data data) throws AthletiException {
+        if (profile.equals(profileManager.getCurrentProfile())) {
+            return new String[] {String.format(Message.MESSAGE_PROFILE_CURRENT, profile)};
+        }
+        profileManager.switchTo(profile);
+        return new String[] {String.format(Message.MESSAGE_PROFILE_SWITCHED, profile)};
+    }
+
+    /**
+     * Executes the command without holding the lock on the current data, which it does not access,
+     * while the profile evicted from the cache, if any, is being saved.
+     *
+     * @param data              The current data.
+     * @param consumer          The consumer of the messages to be shown to the user.
+     * @throws AthletiException If the data of the profile cannot be loaded.
+     */
+    @Override
+    public void executeLocked(Data data, Consumer<Stream<String>> consumer) throws AthletiException {
+        consumer.accept(executeAsStream(data));
+    }
+}
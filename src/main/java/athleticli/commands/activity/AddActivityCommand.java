@@ -22,7 +22,7 @@ public class AddActivityCommand extends Command {
     }
 
     /**
-     * Updates the activity list by adding a new activity, sorts the list and returns a message to the user.
+     * Updates the activity list by adding a new activity in order and returns a message to the user.
      *
      * @param data Current data containing the activity list.
      * @return An array of message which will be shown to the user.
@@ -30,8 +30,7 @@ public class AddActivityCommand extends Command {
     @Override
     public String[] execute(Data data) {
         ActivityList activities = data.getActivities();
-        activities.add(activity);
-        activities.sort();
+        activities.addInOrder(activity);
         int size = activities.size();
 
         String countMessage;
@@ -43,7 +43,7 @@ public class DeleteActivityGoalCommand extends Command {
      */
     @Override
     public String[] execute(Data data) throws AthletiException {
-        logger.info("Deleting activity goal with goal type " + this.goalType + " and sport " + this.sport +
+        logger.info(() -> "Deleting activity goal with goal type " + this.goalType + " and sport " + this.sport +
                             " and time span " + this.timeSpan);
         ActivityGoalList activityGoals = data.getActivityGoals();
         String activityGoalString = "";
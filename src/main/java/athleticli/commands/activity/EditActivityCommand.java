@@ -18,7 +18,7 @@ import java.util.logging.Logger;
  * Executes the edit activity command provided by the user.
  */
 public class EditActivityCommand extends Command {
-    private static final Logger logger = Logger.getLogger("EditActivityCommand");
+    private static final Logger logger = Logger.getLogger(EditActivityCommand.class.getName());
     private final int index;
     private final ActivityChanges activityChanges;
     private final Class<?> activityType;
@@ -45,7 +45,7 @@ public class EditActivityCommand extends Command {
      */
     @Override
     public String[] execute(Data data) throws AthletiException {
-        logger.log(Level.INFO, "Editing activity at index " + index);
+        logger.info(() -> "Editing activity at index " + index);
         ActivityList activities = data.getActivities();
         try {
             // Adjusting index as user input is 1-based and list is 0-based
@@ -56,9 +56,8 @@ public class EditActivityCommand extends Command {
             }
 
             applyActivityChanges(activity, activityChanges);
-
-            activities.sort();
-            logger.log(java.util.logging.Level.INFO, "Activity at index " + index + "successfully edited");
+            activities.setInOrder(index - 1, activity);
+            logger.info(() -> "Activity at index " + index + " successfully edited");
             return new String[]{
                 Message.MESSAGE_ACTIVITY_UPDATED,
                 activity.toString(),
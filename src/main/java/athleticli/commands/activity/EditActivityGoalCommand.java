@@ -35,14 +35,16 @@ public class EditActivityGoalCommand extends Command {
      */
     @Override
     public String[] execute(Data data) throws athleticli.exceptions.AthletiException {
-        logger.info("Editing activity goal with goal type " + this.activityGoal.getGoalType() + " and sport " +
+        logger.info(() -> "Editing activity goal with goal type " + this.activityGoal.getGoalType() + " and sport " +
                             this.activityGoal.getSport() + " and time span " + this.activityGoal.getTimeSpan());
         ActivityGoalList activityGoals = data.getActivityGoals();
-        for (ActivityGoal goal : activityGoals) {
+        for (int i = 0; i < activityGoals.size(); i++) {
+            ActivityGoal goal = activityGoals.get(i);
             if (goal.getSport() == this.activityGoal.getSport() &&
                         goal.getGoalType() == this.activityGoal.getGoalType() &&
                         goal.getTimeSpan() == this.activityGoal.getTimeSpan()) {
                 goal.setTargetValue(this.activityGoal.getTargetValue());
+                activityGoals.set(i, goal);
                 logger.info("Activity goal edited successfully");
                 return new String[]{Message.MESSAGE_ACTIVITY_GOAL_EDITED, this.activityGoal.toString(data)};
             }
@@ -14,6 +14,10 @@ public class FindActivityCommand extends FindCommand {
         super(date);
     }
 
+    public FindActivityCommand(LocalDate date, LocalDate endDate) {
+        super(date, endDate);
+    }
+
     /**
      * Returns the activities matching the date to be shown to the user.
      *
@@ -24,7 +28,7 @@ public class FindActivityCommand extends FindCommand {
     @Override
     public String[] execute(Data data) throws AthletiException {
         var resultStream = data.getActivities()
-                .find(date)
+                .find(date, endDate)
                 .stream()
                 .filter(Activity.class::isInstance)
                 .map(Activity.class::cast)
@@ -32,4 +36,14 @@ public class FindActivityCommand extends FindCommand {
         return Stream.concat(Stream.of(Message.MESSAGE_ACTIVITY_FIND), resultStream)
                 .toArray(String[]::new);
     }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
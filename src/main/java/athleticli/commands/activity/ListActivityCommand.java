@@ -1,8 +1,11 @@
 package athleticli.commands.activity;
 
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import athleticli.commands.Command;
+import athleticli.commands.Page;
 import athleticli.data.Data;
-import athleticli.data.activity.Activity;
 import athleticli.data.activity.ActivityList;
 import athleticli.ui.Message;
 
@@ -11,6 +14,7 @@ import athleticli.ui.Message;
  */
 public class ListActivityCommand extends Command {
     private final boolean isDetailed;
+    private final Page page;
 
     /**
      * Constructs instance of ListActivityCommand.
@@ -18,7 +22,18 @@ public class ListActivityCommand extends Command {
      * @param isDetailed Whether the list should be detailed.
      */
     public ListActivityCommand(boolean isDetailed) {
+        this(isDetailed, Page.ALL);
+    }
+
+    /**
+     * Constructs instance of ListActivityCommand showing a page of the activities.
+     *
+     * @param isDetailed Whether the list should be detailed.
+     * @param page The page of the activities to be shown.
+     */
+    public ListActivityCommand(boolean isDetailed, Page page) {
         this.isDetailed = isDetailed;
+        this.page = page;
     }
 
     /**
@@ -30,18 +45,35 @@ public class ListActivityCommand extends Command {
      */
     @Override
     public String[] execute(Data data) {
+        return executeAsStream(data).toArray(String[]::new);
+    }
+
+    /**
+     * Lists the activities on the page in either a detailed or summary format, rendering each activity only
+     * when it is shown.
+     *
+     * @param data      Current data containing the activity list.
+     * @return          The messages containing listing of activities which will be shown to the user.
+     */
+    @Override
+    public Stream<String> executeAsStream(Data data) {
         ActivityList activities = data.getActivities();
         final int size = activities.size();
 
         if (size == 0) {
-            return new String[]{Message.MESSAGE_EMPTY_ACTIVITY_LIST};
+            return Stream.of(Message.MESSAGE_EMPTY_ACTIVITY_LIST);
+        }
+        final int start = page.getStart(size);
+        if (start == size) {
+            return Stream.of(page.getOutOfRangeMessage(size));
         }
 
-        if (isDetailed) {
-            return printDetailedList(activities, size);
-        } else {
-            return printList(activities, size);
+        final int end = page.getEnd(size);
+        final Stream<String> lines = isDetailed ? detailedLines(activities, start, end) : lines(activities, start, end);
+        if (page.isPartial()) {
+            return Stream.concat(lines, Stream.of(page.getSummaryMessage(size)));
         }
+        return lines;
     }
 
     /**
@@ -52,16 +84,7 @@ public class ListActivityCommand extends Command {
      * @return              The message containing listing of activities which will be shown to the user.
      */
     public String[] printList(ActivityList activities, int size) {
-        String[] output = new String[size + 2];
-        output[0] = Message.MESSAGE_ACTIVITY_LIST;
-
-        int index = 1;
-        for (Activity activity : activities) {
-            output[index++] = index-1 + "." + activity.toString();
-        }
-
-        output[index] = Message.MESSAGE_ACTIVITY_LIST_END;
-        return output;
+        return lines(activities, 0, size).toArray(String[]::new);
     }
 
     /**
@@ -72,12 +95,28 @@ public class ListActivityCommand extends Command {
      * @return              The message containing listing of activities which will be shown to the user.
      */
     public String[] printDetailedList(ActivityList activities, int size) {
-        String[] output = new String[size + 1];
-        output[0] = Message.MESSAGE_ACTIVITY_LIST;
-        int index = 1;
-        for (Activity activity : activities) {
-            output[index++] = activity.toDetailedString();
-        }
-        return output;
+        return detailedLines(activities, 0, size).toArray(String[]::new);
+    }
+
+    private Stream<String> lines(ActivityList activities, int start, int end) {
+        final Stream<String> items = IntStream.range(start, end)
+                .mapToObj(i -> (i + 1) + "." + activities.get(i).toString());
+        return Stream.of(Stream.of(Message.MESSAGE_ACTIVITY_LIST), items, Stream.of(Message.MESSAGE_ACTIVITY_LIST_END))
+                .flatMap(lines -> lines);
+    }
+
+    private Stream<String> detailedLines(ActivityList activities, int start, int end) {
+        return Stream.concat(Stream.of(Message.MESSAGE_ACTIVITY_LIST),
+                IntStream.range(start, end).mapToObj(i -> activities.get(i).toDetailedString()));
+    }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
@@ -34,7 +34,17 @@ public class ListActivityGoalCommand extends Command {
         for (int i = 0; i < activityGoals.size(); i++) {
             output[i + 1] = (i + 1) + ". " + activityGoals.get(i).toString(data);
         }
-        logger.info("Found " + size + " activity goals");
+        logger.info(() -> "Found " + size + " activity goals");
         return output;
     }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
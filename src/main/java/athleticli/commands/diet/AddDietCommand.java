@@ -33,7 +33,7 @@ public class AddDietCommand extends Command {
      */
     @Override
     public String[] execute(Data data) {
-        logger.info("Adding diet" + diet.toString());
+        logger.info(() -> "Adding diet" + diet.toString());
         DietList diets = data.getDiets();
         diets.add(this.diet);
         int size = diets.size();
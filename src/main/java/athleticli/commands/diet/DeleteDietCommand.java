@@ -33,7 +33,7 @@ public class DeleteDietCommand extends Command {
      * @return The message which will be shown to the user.
      */
     public String[] execute(Data data) throws AthletiException {
-        logger.info("Deleting diet at index " + index);
+        logger.info(() -> "Deleting diet at index " + index);
         DietList dietList = data.getDiets();
         int size = dietList.size();
         if (index > size) {
@@ -7,12 +7,7 @@ import athleticli.data.diet.DietGoalList;
 import athleticli.exceptions.AthletiException;
 import athleticli.ui.Message;
 
-import java.io.IOException;
-
-import java.util.logging.ConsoleHandler;
-import java.util.logging.FileHandler;
 import java.util.logging.Level;
-import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
 /**
@@ -31,12 +26,6 @@ public class DeleteDietGoalCommand extends Command {
         //deleteIndex that is less than or equal to zero would result in exception
         assert deleteIndex >= 1: "'deleteIndex' should have the value of 1 minimally.";
         this.deleteIndex = deleteIndex;
-        LogManager.getLogManager().reset();
-        try {
-            logger.addHandler(new FileHandler("%t/athleticli-log.txt"));
-        } catch(IOException e) {
-            logger.addHandler(new ConsoleHandler());
-        }
     }
 
     /**
@@ -54,7 +43,7 @@ public class DeleteDietGoalCommand extends Command {
         try {
             DietGoal dietGoalRemoved = dietGoals.get(deleteIndex - 1);
             dietGoals.remove(deleteIndex - 1);
-            logger.log(Level.FINE, String.format("Diet goals %s has been successfully removed",
+            logger.fine(() -> String.format("Diet goals %s has been successfully removed",
                     dietGoalRemoved.getNutrient()));
             return new String[]{Message.MESSAGE_DIET_GOAL_DELETE_HEADER,
                     dietGoalRemoved.toString(data)};
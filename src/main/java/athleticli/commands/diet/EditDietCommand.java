@@ -43,7 +43,7 @@ public class EditDietCommand extends Command {
      */
     @Override
     public String[] execute(Data data) throws AthletiException {
-        logger.info("Editing diet at index " + index);
+        logger.info(() -> "Editing diet at index " + index);
         DietList diets = data.getDiets();
         int size = diets.size();
         if (index > size) {
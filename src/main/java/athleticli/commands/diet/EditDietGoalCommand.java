@@ -49,7 +49,8 @@ public class EditDietGoalCommand extends Command {
     private void updateUserGoals(DietGoalList currentDietGoals) {
         int newTargetValue;
         for (DietGoal userUpdatedDietGoal : userUpdatedDietGoals) {
-            for (DietGoal currentDietGoal : currentDietGoals) {
+            for (int i = 0; i < currentDietGoals.size(); i++) {
+                DietGoal currentDietGoal = currentDietGoals.get(i);
                 boolean isSameDietGoalNutrient =
                         userUpdatedDietGoal.getNutrient().equals(currentDietGoal.getNutrient());
                 boolean isSameTimeSpan = userUpdatedDietGoal.getTimeSpan().getDays()
@@ -63,6 +64,7 @@ public class EditDietGoalCommand extends Command {
                 //update new target value to the current goal
                 newTargetValue = userUpdatedDietGoal.getTargetValue();
                 currentDietGoal.setTargetValue(newTargetValue);
+                currentDietGoals.set(i, currentDietGoal);
             }
         }
     }
@@ -21,6 +21,10 @@ public class FindDietCommand extends FindCommand {
         super(date);
     }
 
+    public FindDietCommand(LocalDate date, LocalDate endDate) {
+        super(date, endDate);
+    }
+
     /**
      * Returns the diets matching the date to be shown to the user.
      *
@@ -30,9 +34,9 @@ public class FindDietCommand extends FindCommand {
      */
     @Override
     public String[] execute(Data data) throws AthletiException {
-        logger.info("Finding diets on " + date);
+        logger.info(() -> "Finding diets on " + date);
         var resultStream = data.getDiets()
-                .find(date)
+                .find(date, endDate)
                 .stream()
                 .filter(Diet.class::isInstance)
                 .map(Diet.class::cast)
@@ -40,4 +44,14 @@ public class FindDietCommand extends FindCommand {
         return Stream.concat(Stream.of(Message.MESSAGE_DIET_FIND), resultStream)
                 .toArray(String[]::new);
     }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
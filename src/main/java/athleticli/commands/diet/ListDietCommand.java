@@ -1,22 +1,36 @@
 package athleticli.commands.diet;
 
 import athleticli.commands.Command;
+import athleticli.commands.Page;
 import athleticli.data.Data;
 import athleticli.data.diet.DietList;
 import athleticli.ui.Message;
 
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Executes the list diet commands provided by the user.
  */
 public class ListDietCommand extends Command {
     private static final Logger logger = Logger.getLogger(ListDietCommand.class.getName());
+    private final Page page;
 
     /**
      * Constructor for ListDietCommand.
      */
     public ListDietCommand() {
+        this(Page.ALL);
+    }
+
+    /**
+     * Constructor for ListDietCommand showing a page of the diets.
+     *
+     * @param page The page of the diets to be shown.
+     */
+    public ListDietCommand(Page page) {
+        this.page = page;
     }
 
     /**
@@ -26,11 +40,40 @@ public class ListDietCommand extends Command {
      * @return The message which will be shown to the user.
      */
     public String[] execute(Data data) {
+        return executeAsStream(data).toArray(String[]::new);
+    }
+
+    /**
+     * Lists the diets on the page, rendering each diet only when it is shown.
+     *
+     * @param data The current data containing the diet list.
+     * @return The messages which will be shown to the user.
+     */
+    @Override
+    public Stream<String> executeAsStream(Data data) {
         logger.info("Listing diets");
         DietList dietList = data.getDiets();
         int size = dietList.size();
-        logger.info("Found " + size + " diets");
-        return new String[]{Message.MESSAGE_DIET_LIST, dietList.toString(),
-                String.format(Message.MESSAGE_DIET_COUNT, size)};
+        logger.info(() -> "Found " + size + " diets");
+        final int start = page.getStart(size);
+        if (size > 0 && start == size) {
+            return Stream.of(page.getOutOfRangeMessage(size));
+        }
+        final Stream<String> diets = IntStream.range(start, page.getEnd(size))
+                .mapToObj(i -> "\t" + (i + 1) + ". " + dietList.get(i).toString());
+        final Stream<String> footer = page.isPartial() && size > 0
+                ? Stream.of(page.getSummaryMessage(size), String.format(Message.MESSAGE_DIET_COUNT, size))
+                : Stream.of(String.format(Message.MESSAGE_DIET_COUNT, size));
+        return Stream.of(Stream.of(Message.MESSAGE_DIET_LIST), diets, footer).flatMap(lines -> lines);
+    }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
@@ -31,4 +31,14 @@ public class ListDietGoalCommand extends Command {
         return new String[]{Message.MESSAGE_DIET_GOAL_LIST_HEADER, dietGoalList.toString(data),
                 String.format(Message.MESSAGE_DIET_GOAL_COUNT, dietGoalNum)};
     }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -22,14 +22,14 @@ public class AddSleepCommand extends Command {
      */
     public AddSleepCommand(Sleep sleep) {
         this.sleep = sleep;
-        logger.fine("Creating AddSleepCommand with sleep: " + sleep.toString());
+        logger.fine(() -> "Creating AddSleepCommand with sleep: " + sleep.toString());
         assert sleep.getStartDateTime() != null : "Start time cannot be null";
         assert sleep.getEndDateTime() != null : "End time cannot be null";
         assert sleep.getStartDateTime().isBefore(sleep.getEndDateTime()) : "Start time must be before end time";
     }
 
     /**
-     * Adds the sleep record to the sleep list. Sorts the sleep list after adding.
+     * Adds the sleep record to the sleep list in order.
      * 
      * @param data The current data containing the sleep list.
      * @return The message which will be shown to the user.
@@ -38,20 +38,16 @@ public class AddSleepCommand extends Command {
     public String[] execute(Data data) throws AthletiException {
         SleepList sleeps = data.getSleeps();
 
-        for (Sleep s : sleeps) {
-            if (sleep.getStartDateTime().isBefore(s.getEndDateTime()) 
-                && sleep.getEndDateTime().isAfter(s.getStartDateTime())) {
-                throw new AthletiException(Message.ERRORMESSAGE_SLEEP_OVERLAP);
-            }
+        if (sleeps.isOverlapping(sleep)) {
+            throw new AthletiException(Message.ERRORMESSAGE_SLEEP_OVERLAP);
         }
 
-        sleeps.add(this.sleep);
-        sleeps.sort();
+        sleeps.addInOrder(this.sleep);
         int size = sleeps.size();
 
-        logger.info("Added sleep: " + this.sleep.toString());
-        logger.info("Sleep count: " + sleeps.size());
-        logger.info("Sleep list: " + sleeps.toString());
+        logger.info(() -> "Added sleep: " + this.sleep.toString());
+        logger.info(() -> "Sleep count: " + sleeps.size());
+        logger.finest(() -> "Sleep list: " + sleeps);
 
         String countMessage;
         if (size > 1) {
@@ -23,7 +23,7 @@ public class DeleteSleepCommand extends Command {
      */
     public DeleteSleepCommand(int index) {
         this.index = index;
-        logger.fine("Creating DeleteSleepCommand with index: " + index);
+        logger.fine(() -> "Creating DeleteSleepCommand with index: " + index);
     }
 
     /**
@@ -39,9 +39,9 @@ public class DeleteSleepCommand extends Command {
             final Sleep sleep = sleeps.get(index-1);
             sleeps.remove(sleep);
 
-            logger.info("Deleting sleep: " + sleep.toString());
-            logger.info("Sleep count: " + sleeps.size());
-            logger.info("Sleep list: " + sleeps.toString());
+            logger.info(() -> "Deleting sleep: " + sleep.toString());
+            logger.info(() -> "Sleep count: " + sleeps.size());
+            logger.finest(() -> "Sleep list: " + sleeps);
 
             return new String[]{
                 Message.MESSAGE_SLEEP_DELETED, 
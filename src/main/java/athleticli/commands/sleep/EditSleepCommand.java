@@ -26,7 +26,7 @@ public class EditSleepCommand extends Command {
     public EditSleepCommand(int index, Sleep newSleep) {
         this.index = index;
         this.newSleep = newSleep;
-        logger.fine("Creating EditSleepCommand with index: " + index);
+        logger.fine(() -> "Creating EditSleepCommand with index: " + index);
     }
     
     /**
@@ -38,17 +38,14 @@ public class EditSleepCommand extends Command {
      */
     public String[] execute(Data data) throws AthletiException {
         SleepList sleeps = data.getSleeps();
-        for (Sleep s : sleeps) {
-            if (newSleep.getStartDateTime().isBefore(s.getEndDateTime()) 
-                && newSleep.getEndDateTime().isAfter(s.getStartDateTime())) {
-                throw new AthletiException(Message.ERRORMESSAGE_SLEEP_OVERLAP);
-            }
+        if (sleeps.isOverlapping(newSleep)) {
+            throw new AthletiException(Message.ERRORMESSAGE_SLEEP_OVERLAP);
         }
         try {
             final Sleep oldSleep = sleeps.get(index-1);
-            sleeps.set(index-1, newSleep);
+            sleeps.setInOrder(index - 1, newSleep);
 
-            logger.info("Activity at index " + index + " successfully edited");
+            logger.info(() -> "Activity at index " + index + " successfully edited");
 
             return new String[]{Message.MESSAGE_SLEEP_EDITED, 
                 "original: " + oldSleep,
@@ -34,14 +34,16 @@ public class EditSleepGoalCommand extends Command {
      */
 
     public String[] execute(Data data) throws athleticli.exceptions.AthletiException {
-        logger.info("Editing sleep goal with goal type " + this.sleepGoal.getGoalType() + " and time span " +
+        logger.info(() -> "Editing sleep goal with goal type " + this.sleepGoal.getGoalType() + " and time span " +
                 this.sleepGoal.getTimeSpan());
         
         SleepGoalList sleepGoals = data.getSleepGoals();
-        for (SleepGoal goal : sleepGoals) {
+        for (int i = 0; i < sleepGoals.size(); i++) {
+            SleepGoal goal = sleepGoals.get(i);
             if (goal.getGoalType() == this.sleepGoal.getGoalType() &&
                     goal.getTimeSpan() == this.sleepGoal.getTimeSpan()) {
                 goal.setTargetValue(this.sleepGoal.getTargetValue());
+                sleepGoals.set(i, goal);
                 logger.info("Sleep goal edited successfully");
                 return new String[]{Message.MESSAGE_SLEEP_GOAL_EDITED, this.sleepGoal.toString(data)};
             }
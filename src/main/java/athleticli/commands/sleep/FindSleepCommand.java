@@ -1,12 +1,15 @@
 package athleticli.commands.sleep;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import athleticli.commands.FindCommand;
 import athleticli.data.Data;
 import athleticli.data.sleep.Sleep;
+import athleticli.data.sleep.SleepList;
 import athleticli.exceptions.AthletiException;
 import athleticli.ui.Message;
 
@@ -15,7 +18,9 @@ import athleticli.ui.Message;
  */
 public class FindSleepCommand extends FindCommand {
     private final Logger logger = Logger.getLogger(FindSleepCommand.class.getName());
-    
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+
     /**
      * Constructor for FindSleepCommand.
      * 
@@ -25,6 +30,28 @@ public class FindSleepCommand extends FindCommand {
         super(date);
     }
 
+    /**
+     * Constructor for FindSleepCommand finding a range of dates.
+     *
+     * @param date First date of the sleeps to be found.
+     * @param endDate Last date of the sleeps to be found.
+     */
+    public FindSleepCommand(LocalDate date, LocalDate endDate) {
+        super(date, endDate);
+    }
+
+    /**
+     * Constructor for FindSleepCommand finding the sleeps overlapping a time window.
+     *
+     * @param startDateTime Start of the time window.
+     * @param endDateTime End of the time window.
+     */
+    public FindSleepCommand(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        super(startDateTime.toLocalDate(), endDateTime.toLocalDate());
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+    }
+
     /**
      * Returns the sleeps matching the date to be shown to the user.
      *
@@ -34,9 +61,16 @@ public class FindSleepCommand extends FindCommand {
      */
     @Override
     public String[] execute(Data data) throws AthletiException {
-        logger.info("Finding sleeps on " + date);
-        var resultStream = data.getSleeps()
-                .find(date)
+        final SleepList sleeps = data.getSleeps();
+        final ArrayList<Sleep> results;
+        if (startDateTime != null) {
+            logger.info(() -> "Finding sleeps from " + startDateTime + " to " + endDateTime);
+            results = sleeps.findOverlapping(startDateTime, endDateTime);
+        } else {
+            logger.info(() -> "Finding sleeps on " + date);
+            results = sleeps.find(date, endDate);
+        }
+        var resultStream = results
                 .stream()
                 .filter(Sleep.class::isInstance)
                 .map(Sleep.class::cast)
@@ -44,4 +78,14 @@ public class FindSleepCommand extends FindCommand {
         return Stream.concat(Stream.of(Message.MESSAGE_SLEEP_FIND), resultStream)
                 .toArray(String[]::new);
     }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
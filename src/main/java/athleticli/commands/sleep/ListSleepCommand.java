@@ -1,8 +1,11 @@
 package athleticli.commands.sleep;
 
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import athleticli.commands.Command;
+import athleticli.commands.Page;
 import athleticli.data.Data;
 import athleticli.data.sleep.SleepList;
 import athleticli.ui.Message;
@@ -12,6 +15,23 @@ import athleticli.ui.Message;
  */
 public class ListSleepCommand extends Command {
     private static final Logger logger = Logger.getLogger(ListSleepCommand.class.getName());
+    private final Page page;
+
+    /**
+     * Constructor for ListSleepCommand.
+     */
+    public ListSleepCommand() {
+        this(Page.ALL);
+    }
+
+    /**
+     * Constructor for ListSleepCommand showing a page of the sleep records.
+     *
+     * @param page The page of the sleep records to be shown.
+     */
+    public ListSleepCommand(Page page) {
+        this.page = page;
+    }
 
     /**
      * Lists all the sleep records in the sleep list.
@@ -21,18 +41,35 @@ public class ListSleepCommand extends Command {
      */
     @Override
     public String[] execute(Data data) {
+        return executeAsStream(data).toArray(String[]::new);
+    }
+
+    /**
+     * Lists the sleep records on the page, rendering each record only when it is shown.
+     *
+     * @param data The current data containing the sleep list.
+     * @return The messages which will be shown to the user.
+     */
+    @Override
+    public Stream<String> executeAsStream(Data data) {
         logger.info("Executing ListSleepCommand");
         SleepList sleeps = data.getSleeps();
         final int size = sleeps.size();
 
         if (size == 0) {
             logger.fine("Sleep list is empty");
-            return new String[] {
-                Message.MESSAGE_SLEEP_LIST_EMPTY
-            };
+            return Stream.of(Message.MESSAGE_SLEEP_LIST_EMPTY);
         }
-        
-        return printList(sleeps, size);
+        final int start = page.getStart(size);
+        if (start == size) {
+            return Stream.of(page.getOutOfRangeMessage(size));
+        }
+
+        final Stream<String> lines = printList(sleeps, start, page.getEnd(size));
+        if (page.isPartial()) {
+            return Stream.concat(lines, Stream.of(page.getSummaryMessage(size)));
+        }
+        return lines;
     }
 
     /**
@@ -43,16 +80,35 @@ public class ListSleepCommand extends Command {
      * @return The message containing list of sleep records which will be shown to the user.
      */
     public String[] printList(SleepList sleeps, int size) {
+        return printList(sleeps, 0, size).toArray(String[]::new);
+    }
+
+    /**
+     * Prints the sleep records within a range of indices, rendering each record only when it is shown.
+     *
+     * @param sleeps The current sleep list.
+     * @param start The 0-based index of the first sleep record to be shown.
+     * @param end The 0-based index after the last sleep record to be shown.
+     * @return The messages containing the sleep records which will be shown to the user.
+     */
+    public Stream<String> printList(SleepList sleeps, int start, int end) {
         logger.fine("Printing sleep list");
-        logger.info("Sleep count: " + sleeps.size());
-        logger.info("Sleep list: " + sleeps.toString());
+        logger.info(() -> "Sleep count: " + sleeps.size());
+        logger.finest(() -> "Sleep list: " + sleeps);
 
-        String[] output = new String[size+1];
-        output[0] = Message.MESSAGE_SLEEP_LIST;
-        for (int i = 0; i < size; i++) {
+        return Stream.concat(Stream.of(Message.MESSAGE_SLEEP_LIST), IntStream.range(start, end).mapToObj(i -> {
             assert sleeps.get(i) != null : "Sleep record cannot be null";
-            output[i+1] = (i + 1) + ". " + sleeps.get(i).toString();
-        }
-        return output;
+            return (i + 1) + ". " + sleeps.get(i).toString();
+        }));
+    }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
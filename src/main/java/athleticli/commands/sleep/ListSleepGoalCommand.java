@@ -35,7 +35,17 @@ public class ListSleepGoalCommand extends Command {
         for (int i = 0; i < sleepGoals.size(); i++) {
             output[i + 1] = (i + 1) + ". " + sleepGoals.get(i).toString(data);
         }
-        logger.info("Found " + size + " sleep goals");
+        logger.info(() -> "Found " + size + " sleep goals");
         return output;
     }
+
+    /**
+     * Returns <code>true</code>, as the command only reads the data.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -0,0 +1,106 @@
+package athleticli.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Publishes log records to another handler on a background thread, so that logging never waits for I/O.
+ * Records are queued by the logging threads and written by the background thread in batches,
+ * with one flush per batch. If the queue is full, records are dropped rather than blocking the caller,
+ * and the number of dropped records is logged with the next batch.
+ */
+public class AsyncHandler extends Handler {
+    private static final int BATCH_SIZE = 256;
+    /* marks the end of the queue when the handler is closed */
+    private static final LogRecord END = new LogRecord(Level.OFF, "");
+    private final Handler delegate;
+    private final BlockingQueue<LogRecord> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructs a handler and starts its background thread.
+     *
+     * @param delegate  The handler writing the records.
+     * @param capacity  The maximum number of records waiting to be written.
+     */
+    public AsyncHandler(Handler delegate, int capacity) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        writer = new Thread(this::write, "athleticli-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a record to be written, or drops it if the queue is full.
+     *
+     * @param record The record to be written.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        /* the caller is inferred from the stack trace, which has to be done on the logging thread */
+        record.getSourceClassName();
+        if (!queue.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    /**
+     * Writes the records queued so far, and then closes the other handler.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            queue.put(END);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    private void write() {
+        final List<LogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            final long dropped = droppedCount.getAndSet(0);
+            if (dropped > 0) {
+                delegate.publish(new LogRecord(Level.WARNING, "Dropped " + dropped + " log records"));
+            }
+            for (LogRecord record : batch) {
+                if (record == END) {
+                    delegate.flush();
+                    return;
+                }
+                delegate.publish(record);
+            }
+            delegate.flush();
+            batch.clear();
+        }
+    }
+}
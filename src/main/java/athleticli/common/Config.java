@@ -18,10 +18,38 @@ public class Config {
             DateTimeFormatter.ofPattern("uuuu-MM-dd").withResolverStyle(ResolverStyle.STRICT)
                     .withLocale(ENGLISH);
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss", ENGLISH);
-    public static final String PATH_ACTIVITY = "./data/activity.txt";
-    public static final String PATH_ACTIVITY_GOAL = "./data/activity_goal.txt";
-    public static final String PATH_SLEEP = "./data/sleep.txt";
-    public static final String PATH_SLEEP_GOAL = "./data/sleep_goal.txt";
-    public static final String PATH_DIET = "./data/diet.txt";
-    public static final String PATH_DIET_GOAL = "./data/diet_goal.txt";
+    /* the directory of the files of the default profile */
+    public static final String DATA_DIRECTORY = "./data";
+    /* the directory containing a subdirectory for the files of each other profile */
+    public static final String PROFILE_DIRECTORY = DATA_DIRECTORY + "/profiles";
+    public static final String PATH_ACTIVITY = DATA_DIRECTORY + "/activity.txt";
+    public static final String PATH_ACTIVITY_SNAPSHOT = DATA_DIRECTORY + "/activity.bin";
+    public static final String PATH_ACTIVITY_GOAL = DATA_DIRECTORY + "/activity_goal.txt";
+    public static final String PATH_SLEEP = DATA_DIRECTORY + "/sleep.txt";
+    public static final String PATH_SLEEP_GOAL = DATA_DIRECTORY + "/sleep_goal.txt";
+    public static final String PATH_DIET = DATA_DIRECTORY + "/diet.txt";
+    public static final String PATH_DIET_GOAL = DATA_DIRECTORY + "/diet_goal.txt";
+    public static final String JOURNAL_SUFFIX = ".journal";
+    /* size in chars of the buffer used when writing files, configurable by -Dathleticli.writeBufferSize */
+    public static final int WRITE_BUFFER_SIZE = Integer.getInteger("athleticli.writeBufferSize", 1 << 16);
+    /* size in chars of the buffer used when writing to the console, configurable by -Dathleticli.outputBufferSize */
+    public static final int OUTPUT_BUFFER_SIZE = Integer.getInteger("athleticli.outputBufferSize", 1 << 16);
+    /* also stores activities in a binary snapshot loaded instead of the text, by -Dathleticli.binarySnapshot=true */
+    public static final boolean IS_ACTIVITY_SNAPSHOT_BINARY = Boolean.getBoolean("athleticli.binarySnapshot");
+    /* the number of records on a page of a list command if only the page number is given */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    /* the number of lines parsed ahead of the execution in the batch mode */
+    public static final int BATCH_QUEUE_CAPACITY = 1024;
+    /* the number of threads handling requests in the server mode, configurable by -Dathleticli.serverThreads */
+    public static final int SERVER_THREAD_COUNT = Integer.getInteger("athleticli.serverThreads",
+            2 * Runtime.getRuntime().availableProcessors());
+    /* the number of seconds between autosaves, configurable by -Dathleticli.autosaveInterval, or 0 to disable */
+    public static final int AUTOSAVE_INTERVAL = Integer.getInteger("athleticli.autosaveInterval", 60);
+    /* the number of unsaved mutations triggering an autosave, configurable by -Dathleticli.autosaveMutations,
+     * or 0 to disable */
+    public static final int AUTOSAVE_MUTATIONS = Integer.getInteger("athleticli.autosaveMutations", 100);
+    /* the number of profiles kept loaded, configurable by -Dathleticli.profileCacheCapacity */
+    public static final int PROFILE_CACHE_CAPACITY = Integer.getInteger("athleticli.profileCacheCapacity", 4);
+    /* log records queued beyond this number are dropped, configurable by -Dathleticli.logQueueCapacity */
+    public static final int LOG_QUEUE_CAPACITY = Integer.getInteger("athleticli.logQueueCapacity", 8192);
 }
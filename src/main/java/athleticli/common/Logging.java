@@ -0,0 +1,46 @@
+package athleticli.common;
+
+import static athleticli.common.Config.LOG_QUEUE_CAPACITY;
+import static athleticli.common.Config.WRITE_BUFFER_SIZE;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.logging.StreamHandler;
+import java.util.logging.XMLFormatter;
+
+/**
+ * Sets up logging for the whole application.
+ * All loggers are named after their classes, so the handler installed on the <code>athleticli</code> logger
+ * receives their records. Messages built from more than a constant should be passed as suppliers or
+ * parameters, so that they are only built when the level is enabled. Dumps of whole lists belong to
+ * <code>FINEST</code>, which is disabled by default.
+ */
+public class Logging {
+    private static final String LOG_FILE_NAME = "athleticli-log.txt";
+    /* kept here since the log manager only holds weak references to loggers, which would lose the handler */
+    private static final Logger rootLogger = Logger.getLogger("athleticli");
+
+    /**
+     * Removes the default handlers, and writes the records of all loggers in the application to the log file
+     * in the temporary directory without blocking the callers. Logs to the console if the file cannot be opened.
+     */
+    public static void setUp() {
+        LogManager.getLogManager().reset();
+        final Path path = Path.of(System.getProperty("java.io.tmpdir"), LOG_FILE_NAME);
+        Handler handler;
+        try {
+            final BufferedOutputStream stream =
+                    new BufferedOutputStream(new FileOutputStream(path.toFile()), WRITE_BUFFER_SIZE);
+            handler = new AsyncHandler(new StreamHandler(stream, new XMLFormatter()), LOG_QUEUE_CAPACITY);
+        } catch (IOException e) {
+            handler = new ConsoleHandler();
+        }
+        rootLogger.addHandler(handler);
+    }
+}
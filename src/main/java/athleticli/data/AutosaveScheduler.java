@@ -0,0 +1,123 @@
+package athleticli.data;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves the data in the background, every given number of seconds and whenever the given number of mutations
+ * has not been saved yet, so that little is lost if the JVM is killed without running its shutdown hooks.
+ * The saves run on a dedicated thread, so commands do not wait for the files to be written, and
+ * {@link Data#save()} only holds the lock on the data while copying the references to the items of the lists.
+ * At most one save is in flight at a time, and further requests while one is pending are merged into it.
+ */
+public class AutosaveScheduler {
+    private static final Logger logger = Logger.getLogger(AutosaveScheduler.class.getName());
+    private volatile Data data;
+    private final int interval;
+    private final int mutationThreshold;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean isSavePending = new AtomicBoolean();
+    private boolean isStarted = false;
+
+    /**
+     * Constructs a scheduler, which does not save the data until it is started.
+     *
+     * @param data              The data to be saved.
+     * @param interval          The number of seconds between saves, or 0 to save only after mutations.
+     * @param mutationThreshold The number of unsaved mutations triggering a save, or 0 to save only periodically.
+     */
+    public AutosaveScheduler(Data data, int interval, int mutationThreshold) {
+        this.data = data;
+        this.interval = interval;
+        this.mutationThreshold = mutationThreshold;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "athleticli-autosave");
+            /* the shutdown hook saves whatever the last autosave has missed */
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts saving the data periodically and after mutations, as configured.
+     */
+    public synchronized void start() {
+        isStarted = true;
+        if (interval > 0) {
+            executor.scheduleWithFixedDelay(this::save, interval, interval, TimeUnit.SECONDS);
+        }
+        listen(data);
+    }
+
+    /**
+     * Stops saving the data. A save in flight is not interrupted.
+     */
+    public synchronized void stop() {
+        isStarted = false;
+        data.setMutationListener(unsavedCount -> { });
+        executor.shutdown();
+    }
+
+    /**
+     * Saves other data from now on, e.g., that of another profile.
+     *
+     * @param data The data to be saved.
+     */
+    public synchronized void setData(Data data) {
+        if (data == this.data) {
+            return;
+        }
+        this.data.setMutationListener(unsavedCount -> { });
+        this.data = data;
+        if (isStarted) {
+            listen(data);
+        }
+    }
+
+    private void listen(Data data) {
+        if (mutationThreshold > 0) {
+            data.setMutationListener(unsavedCount -> {
+                if (unsavedCount >= mutationThreshold) {
+                    requestSave();
+                }
+            });
+        }
+    }
+
+    /**
+     * Requests a save on the autosave thread, unless one is already pending.
+     */
+    public void requestSave() {
+        if (!isSavePending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::save);
+        } catch (RejectedExecutionException e) {
+            /* stopped meanwhile */
+            isSavePending.set(false);
+        }
+    }
+
+    private void save() {
+        try {
+            final ArrayList<String> savedPaths = data.save();
+            if (!savedPaths.isEmpty()) {
+                logger.fine(() -> "Autosaved " + String.join(", ", savedPaths));
+            }
+        } catch (IOException | RuntimeException e) {
+            /* the autosave thread must survive, and the data is saved again later */
+            logger.log(Level.WARNING, "Autosave failed", e);
+        } finally {
+            /* cleared only now, as the mutations during the save are still counted until it is committed */
+            isSavePending.set(false);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package athleticli.data;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.RandomAccess;
+
+/**
+ * Represents a list backed by a circular array, so that adding or removing an item at either end takes constant
+ * amortized time, e.g., adding the latest record to the front of a list that keeps it first.
+ * Adding or removing an item elsewhere shifts the items on the shorter side of it, i.e., at most half of them.
+ * Items are accessed by index in constant time, as in an <code>ArrayList</code>.
+ *
+ * @param <T> The type of the items.
+ */
+public class CircularArrayList<T> extends AbstractList<T> implements RandomAccess {
+    /* a power of two, since slots are wrapped with a mask and the capacity only ever doubles */
+    private static final int DEFAULT_CAPACITY = 16;
+    private Object[] elements = new Object[DEFAULT_CAPACITY];
+    /* the slot of the item at index 0 */
+    private int head = 0;
+    private int size = 0;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index, size);
+        return (T) elements[slotOf(index)];
+    }
+
+    @Override
+    public T set(int index, T item) {
+        final T oldItem = get(index);
+        elements[slotOf(index)] = item;
+        return oldItem;
+    }
+
+    /**
+     * Appends an item to the end of the list.
+     * This does not call {@link #add(int, Object)}, so that subclasses overriding both are not called twice.
+     *
+     * @param item  The item to be appended.
+     * @return      Always true.
+     */
+    @Override
+    public boolean add(T item) {
+        insert(size, item);
+        return true;
+    }
+
+    @Override
+    public void add(int index, T item) {
+        checkIndex(index, size + 1);
+        insert(index, item);
+    }
+
+    @Override
+    public T remove(int index) {
+        final T oldItem = get(index);
+        if (index < size - index) {
+            move(0, 1, index);
+            elements[head] = null;
+            head = slotOf(1);
+        } else {
+            move(index + 1, index, size - index - 1);
+            elements[slotOf(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return oldItem;
+    }
+
+    /**
+     * Removes all items. This does not call {@link #remove(int)}.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Sorts the list with a stable sort. This does not call {@link #set(int, Object)}.
+     *
+     * @param comparator The order of the items, or <code>null</code> for their natural order.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        final Object[] items = toArray();
+        Arrays.sort((T[]) items, comparator);
+        System.arraycopy(items, 0, elements, 0, size);
+        Arrays.fill(elements, size, elements.length, null);
+        head = 0;
+        modCount++;
+    }
+
+    @Override
+    public Object[] toArray() {
+        final Object[] items = new Object[size];
+        final int headLength = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, items, 0, headLength);
+        System.arraycopy(elements, 0, items, headLength, size - headLength);
+        return items;
+    }
+
+    /**
+     * Inserts an item at the index, shifting the items on the shorter side of it.
+     */
+    private void insert(int index, T item) {
+        if (size == elements.length) {
+            grow();
+        }
+        if (index < size - index) {
+            head = slotOf(-1);
+            move(1, 0, index);
+        } else {
+            move(index, index + 1, size - index);
+        }
+        elements[slotOf(index)] = item;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Doubles the capacity, moving the items to the start of the new array.
+     */
+    private void grow() {
+        final Object[] items = toArray();
+        elements = Arrays.copyOf(items, elements.length * 2);
+        head = 0;
+    }
+
+    /**
+     * Moves the items at a range of indexes by one index, copying each part of the range that does not wrap around
+     * the end of the array at once.
+     */
+    private void move(int from, int to, int length) {
+        if (from > to) {
+            for (int i = 0; i < length; ) {
+                final int source = slotOf(from + i);
+                final int target = slotOf(to + i);
+                final int run = Math.min(length - i, elements.length - Math.max(source, target));
+                System.arraycopy(elements, source, elements, target, run);
+                i += run;
+            }
+        } else {
+            for (int i = length; i > 0; ) {
+                final int source = slotOf(from + i - 1);
+                final int target = slotOf(to + i - 1);
+                final int run = Math.min(i, Math.min(source, target) + 1);
+                System.arraycopy(elements, source - run + 1, elements, target - run + 1, run);
+                i -= run;
+            }
+        }
+    }
+
+    private int slotOf(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+    }
+}
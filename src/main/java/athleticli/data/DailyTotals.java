@@ -0,0 +1,112 @@
+package athleticli.data;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps a running total per day, so that the total of any range of days can be queried
+ * without visiting the days one by one.
+ * The totals are held in a Fenwick tree stored in a <code>long</code> array indexed by the offset of each day from
+ * the first day covered. The array only covers the span of days that have been added, and it doubles when a day
+ * outside of it is added, so the memory used grows with the span of dates rather than with the number of records.
+ * Both updates and queries take <code>O(log D)</code> time, where <code>D</code> is the number of days covered,
+ * independent of how many records have been added.
+ */
+public class DailyTotals {
+    private static final int MIN_CAPACITY = 64;
+    /* about 11,000 years, which is more than the span of dates the parsers accept */
+    private static final int MAX_CAPACITY = 1 << 22;
+    /* the epoch day at position 1 of the tree */
+    private long firstDay = 0;
+    /* the tree is 1-based, so it covers one day less than its length */
+    private long[] tree = new long[1];
+
+    /**
+     * Adds a value to the total of a date.
+     *
+     * @param date  The date whose total is changed.
+     * @param value The value to be added, which is negative to take back an earlier value.
+     * @throws IllegalArgumentException If the dates added would span more than about 11,000 years.
+     */
+    public void add(LocalDate date, long value) {
+        final long day = date.toEpochDay();
+        cover(day);
+        for (int node = (int) (day - firstDay + 1); node < tree.length; node += node & -node) {
+            tree[node] += value;
+        }
+    }
+
+    /**
+     * Returns the sum of the totals from the start date to the end date, both inclusive.
+     * Dates outside of the days covered have a total of zero, so the range may extend beyond them.
+     *
+     * @param startDate The first date to be summed.
+     * @param endDate   The last date to be summed.
+     * @return          The sum of the totals within the range of dates.
+     */
+    public long sum(LocalDate startDate, LocalDate endDate) {
+        final long startDay = Math.max(startDate.toEpochDay(), firstDay);
+        final long endDay = Math.min(endDate.toEpochDay(), firstDay + tree.length - 2);
+        if (startDay > endDay) {
+            return 0;
+        }
+        return prefixSum((int) (endDay - firstDay + 1)) - prefixSum((int) (startDay - firstDay));
+    }
+
+    /**
+     * Resets the totals of all dates to zero.
+     */
+    public void clear() {
+        tree = new long[1];
+    }
+
+    private long prefixSum(int position) {
+        long sum = 0;
+        for (int node = position; node > 0; node -= node & -node) {
+            sum += tree[node];
+        }
+        return sum;
+    }
+
+    /**
+     * Grows the tree until it covers the day, at least doubling it, with the new days on the side of the day.
+     */
+    private void cover(long day) {
+        final int capacity = tree.length - 1;
+        if (day >= firstDay && day < firstDay + capacity) {
+            return;
+        }
+        final long lowDay = capacity == 0 ? day : Math.min(day, firstDay);
+        final long highDay = capacity == 0 ? day : Math.max(day, firstDay + capacity - 1);
+        final long span = highDay - lowDay + 1;
+        if (span > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Date out of range: " + LocalDate.ofEpochDay(day));
+        }
+        int newCapacity = Math.max(MIN_CAPACITY, capacity * 2);
+        while (newCapacity < span) {
+            newCapacity *= 2;
+        }
+        newCapacity = Math.min(newCapacity, MAX_CAPACITY);
+        final long newFirstDay = capacity > 0 && day < firstDay ? highDay - newCapacity + 1 : lowDay;
+
+        /* undoes the linear construction below, which leaves the total of each day at its position */
+        for (int position = capacity; position > 0; position--) {
+            final int parent = position + (position & -position);
+            if (parent <= capacity) {
+                tree[parent] -= tree[position];
+            }
+        }
+        final long[] newTree = new long[newCapacity + 1];
+        final int offset = (int) (firstDay - newFirstDay);
+        for (int position = 1; position <= capacity; position++) {
+            newTree[position + offset] = tree[position];
+        }
+        for (int position = 1; position <= newCapacity; position++) {
+            final int parent = position + (position & -position);
+            if (parent <= newCapacity) {
+                newTree[parent] += newTree[position];
+            }
+        }
+        tree = newTree;
+        firstDay = newFirstDay;
+    }
+}
@@ -1,6 +1,18 @@
 package athleticli.data;
 
+import static athleticli.ui.Message.MESSAGE_LOAD_EXCEPTION;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
 
 import athleticli.data.activity.ActivityGoalList;
 import athleticli.data.activity.ActivityList;
@@ -12,9 +24,18 @@ import athleticli.exceptions.AthletiException;
 
 /**
  * Defines the basic fields and methods of data.
+ * The data may be used by several threads, e.g., the requests of the server mode or the shutdown hook saving it,
+ * so commands are executed through {@link #withReadLock(LockedAction)} or {@link #withWriteLock(LockedAction)}.
+ * Many commands only reading the data may run at the same time, while a command modifying it runs alone.
+ * The lock is fair, so that a steady stream of reading commands cannot keep a modifying one waiting.
+ * A read lock cannot be upgraded, so an action holding it must not call the methods of this class that modify data.
  */
 public class Data {
+    private static final Logger logger = Logger.getLogger(Data.class.getName());
+    private static final long NANOSECONDS_PER_MILLISECOND = 1_000_000;
     private static Data dataInstance;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock(true);
+    private volatile LongConsumer mutationListener = unsavedCount -> { };
     private ActivityList activities = new ActivityList();
     private ActivityGoalList activityGoals = new ActivityGoalList();
     private DietList diets = new DietList();
@@ -22,12 +43,27 @@ public class Data {
     private SleepList sleeps = new SleepList();
     private SleepGoalList sleepGoals = new SleepGoalList();
 
+    /**
+     * Constructs empty data stored in the default directory.
+     */
+    public Data() {
+    }
+
+    /**
+     * Constructs empty data stored in a directory, e.g., that of a profile.
+     *
+     * @param directory The directory of the files storing the data.
+     */
+    public Data(String directory) {
+        getAllLists().forEach(list -> list.setDirectory(directory));
+    }
+
     /**
      * Returns the singleton instance of `Data`.
      *
      * @return  The singleton instance of `Data`.
      */
-    public static Data getInstance() {
+    public static synchronized Data getInstance() {
         if (dataInstance == null) {
             dataInstance = new Data();
         }
@@ -35,39 +71,198 @@ public class Data {
     }
 
     /**
-     * Loads data from files.
+     * Performs an action while holding a lock on the data.
+     *
+     * @param <T> The type of the result of the action.
+     */
+    @FunctionalInterface
+    public interface LockedAction<T> {
+        /**
+         * Performs the action.
+         *
+         * @return                  The result of the action.
+         * @throws AthletiException If the action fails.
+         */
+        T run() throws AthletiException;
+    }
+
+    /**
+     * Performs an action that only reads the data, while other such actions may be performed at the same time.
+     *
+     * @param action            The action to be performed.
+     * @return                  The result of the action.
+     * @throws AthletiException If the action fails.
+     */
+    public <T> T withReadLock(LockedAction<T> action) throws AthletiException {
+        lock.readLock().lock();
+        try {
+            return action.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Performs an action that modifies the data, while no other action is performed.
+     * Afterwards, the mutation listener is notified of the number of mutations not saved yet.
+     *
+     * @param action            The action to be performed.
+     * @return                  The result of the action.
+     * @throws AthletiException If the action fails.
+     */
+    public <T> T withWriteLock(LockedAction<T> action) throws AthletiException {
+        long unsavedCount = 0;
+        lock.writeLock().lock();
+        try {
+            return action.run();
+        } finally {
+            for (StorableList<?> list : getAllLists()) {
+                unsavedCount += list.getUnsavedCount();
+            }
+            lock.writeLock().unlock();
+            /* notified without the lock, so that the listener may wait for a save */
+            mutationListener.accept(unsavedCount);
+        }
+    }
+
+    /**
+     * Sets the listener notified after each action performed with the write lock,
+     * of the total number of mutations of all lists not saved yet.
+     *
+     * @param mutationListener The listener to be notified.
+     */
+    public void setMutationListener(LongConsumer mutationListener) {
+        this.mutationListener = mutationListener;
+    }
+
+    /**
+     * Loads data from files. The files are independent of each other, so they are loaded concurrently.
+     * If any of them fails, the exception of the first failing list in loading order is thrown,
+     * and no list journals its mutations until it is saved.
      */
     public void load() throws AthletiException {
-        activities.load();
-        activityGoals.load();
-        diets.load();
-        dietGoals.load();
-        sleeps.load();
-        sleepGoals.load();
+        withWriteLock(() -> {
+            loadAll();
+            return null;
+        });
+    }
+
+    private void loadAll() throws AthletiException {
+        final List<StorableList<?>> lists = getAllLists();
+        final int threadCount = Math.min(lists.size(), Runtime.getRuntime().availableProcessors());
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final ArrayList<Future<Long>> loadTimes = new ArrayList<>();
+            for (StorableList<?> list : lists) {
+                loadTimes.add(executor.submit(() -> {
+                    final long startTime = System.nanoTime();
+                    list.load();
+                    return System.nanoTime() - startTime;
+                }));
+            }
+            AthletiException firstException = null;
+            for (int i = 0; i < lists.size(); i++) {
+                final String path = lists.get(i).getPath();
+                try {
+                    final long loadTime = loadTimes.get(i).get();
+                    logger.info(() -> String.format("Loaded %s in %d ms", path,
+                            loadTime / NANOSECONDS_PER_MILLISECOND));
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof AthletiException)) {
+                        throw new IllegalStateException(e.getCause());
+                    }
+                    if (firstException == null) {
+                        firstException = (AthletiException) e.getCause();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AthletiException(String.format(MESSAGE_LOAD_EXCEPTION, path));
+                }
+            }
+            if (firstException != null) {
+                lists.forEach(StorableList::stopJournaling);
+                throw firstException;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Saves the lists modified since they were last loaded or saved to files.
+     * The lists are unparsed while holding the read lock, and then written without holding the lock,
+     * so that commands can still be executed while the files are being written. Each list is committed while
+     * holding the write lock as soon as its files are written, so if a later list cannot be written, the lists
+     * saved before it stay saved. Saves do not overlap.
+     *
+     * @return  The paths of the files that have been written.
+     */
+    public synchronized ArrayList<String> save() throws IOException {
+        final ArrayList<StorableList<?>> dirtyLists = new ArrayList<>();
+        final ArrayList<StorableList<?>.Snapshot> snapshots = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (StorableList<?> list : getAllLists()) {
+                if (list.isDirty()) {
+                    dirtyLists.add(list);
+                    snapshots.add(list.takeSnapshot());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        final ArrayList<String> savedPaths = new ArrayList<>();
+        for (int i = 0; i < dirtyLists.size(); i++) {
+            /* committed right after being written, so a later list failing to be written leaves no file uncommitted */
+            snapshots.get(i).write();
+            lock.writeLock().lock();
+            try {
+                snapshots.get(i).commit();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            savedPaths.addAll(dirtyLists.get(i).getSnapshotPaths());
+        }
+        return savedPaths;
     }
 
     /**
-     * Saves data to files.
+     * Stops all lists from journaling their mutations until they are saved,
+     * e.g., when many mutations are about to be saved at once.
      */
-    public void save() throws IOException {
-        activities.save();
-        activityGoals.save();
-        diets.save();
-        dietGoals.save();
-        sleeps.save();
-        sleepGoals.save();
+    public void stopJournaling() {
+        lock.writeLock().lock();
+        try {
+            getAllLists().forEach(StorableList::stopJournaling);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
      * Clears all lists.
      */
     public void clear() {
-        activities.clear();
-        activityGoals.clear();
-        diets.clear();
-        dietGoals.clear();
-        sleeps.clear();
-        sleepGoals.clear();
+        lock.writeLock().lock();
+        try {
+            activities.clear();
+            activityGoals.clear();
+            diets.clear();
+            dietGoals.clear();
+            sleeps.clear();
+            sleepGoals.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns all the lists in the order they are loaded and saved.
+     *
+     * @return  All the lists.
+     */
+    private List<StorableList<?>> getAllLists() {
+        return List.of(activities, activityGoals, diets, dietGoals, sleeps, sleepGoals);
     }
 
     /**
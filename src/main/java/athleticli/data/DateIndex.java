@@ -0,0 +1,173 @@
+package athleticli.data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Indexes items by date, so that the items on a date or within a range of dates can be found
+ * without scanning the whole list.
+ * Items on the same date are kept in the order of the list, and later dates come first in a range.
+ *
+ * @param <T> The type of the indexed items.
+ */
+public class DateIndex<T> implements ListIndex<T> {
+    private final NavigableMap<LocalDate, List<T>> buckets = new TreeMap<>();
+    /* the date each item was indexed under, since items may be edited in place before being re-indexed */
+    private final IdentityHashMap<T, LocalDate> dates = new IdentityHashMap<>();
+    private final Function<T, LocalDate> dateOf;
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param dateOf The function returning the date of an item.
+     */
+    public DateIndex(Function<T, LocalDate> dateOf) {
+        this.dateOf = dateOf;
+    }
+
+    /**
+     * Adds an item after all items on the same date.
+     *
+     * @param item The item to be added.
+     */
+    @Override
+    public void add(T item) {
+        final LocalDate date = dateOf.apply(item);
+        dates.put(item, date);
+        buckets.computeIfAbsent(date, key -> new ArrayList<>()).add(item);
+    }
+
+    /**
+     * Adds an item inserted into the list, before the nearest item on the same date that follows it in the list,
+     * or after the nearest one preceding it. Items on the same date are next to each other in sorted lists,
+     * so only the neighbours of the position need to be checked.
+     *
+     * @param position  The index of the item in the list.
+     * @param item      The item to be added.
+     * @param items     All items in their new order, including the added one.
+     */
+    @Override
+    public void insert(int position, T item, List<T> items) {
+        final LocalDate date = dateOf.apply(item);
+        final List<T> bucket = buckets.get(date);
+        if (bucket == null) {
+            add(item);
+            return;
+        }
+        for (int distance = 1; distance < items.size(); distance++) {
+            if (position - distance >= 0 && date.equals(dates.get(items.get(position - distance)))) {
+                bucket.add(positionOf(bucket, items.get(position - distance)) + 1, item);
+                dates.put(item, date);
+                return;
+            }
+            if (position + distance < items.size() && date.equals(dates.get(items.get(position + distance)))) {
+                bucket.add(positionOf(bucket, items.get(position + distance)), item);
+                dates.put(item, date);
+                return;
+            }
+        }
+        throw new IllegalStateException("Indexed date not found in the list");
+    }
+
+    /**
+     * Replaces an item in place if the new item is on the same date as the old one was added with.
+     * Otherwise, the index is left unchanged to be rebuilt by {@link #reorder(List)}.
+     *
+     * @param oldItem   The item to be replaced.
+     * @param newItem   The item replacing it.
+     * @return          Whether the item was replaced in place.
+     */
+    @Override
+    public boolean replace(T oldItem, T newItem) {
+        final LocalDate date = dates.get(oldItem);
+        if (date == null || !date.equals(dateOf.apply(newItem))) {
+            return false;
+        }
+        final List<T> bucket = buckets.get(date);
+        bucket.set(positionOf(bucket, oldItem), newItem);
+        dates.remove(oldItem);
+        dates.put(newItem, date);
+        return true;
+    }
+
+    /**
+     * Removes an item from the index. The item is looked up under the date it was added with.
+     *
+     * @param item The item to be removed.
+     */
+    @Override
+    public void remove(T item) {
+        final LocalDate date = dates.remove(item);
+        if (date == null) {
+            return;
+        }
+        final List<T> bucket = buckets.get(date);
+        bucket.remove(positionOf(bucket, item));
+        if (bucket.isEmpty()) {
+            buckets.remove(date);
+        }
+    }
+
+    @Override
+    public void clear() {
+        buckets.clear();
+        dates.clear();
+    }
+
+    /**
+     * Rebuilds the index from the items, keeping their order on each date.
+     *
+     * @param items All items in their new order.
+     */
+    @Override
+    public void reorder(List<T> items) {
+        clear();
+        for (T item : items) {
+            add(item);
+        }
+    }
+
+    private int positionOf(List<T> bucket, T item) {
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == item) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Indexed item not found on its date");
+    }
+
+    /**
+     * Returns the items on the date.
+     *
+     * @param date  The date to be matched.
+     * @return      The items on the date.
+     */
+    public ArrayList<T> find(LocalDate date) {
+        final List<T> bucket = buckets.get(date);
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+    }
+
+    /**
+     * Returns the items from the start date to the end date, both inclusive, with later dates first.
+     *
+     * @param startDate The first date to be matched.
+     * @param endDate   The last date to be matched.
+     * @return          The items within the range of dates.
+     */
+    public ArrayList<T> find(LocalDate startDate, LocalDate endDate) {
+        final ArrayList<T> result = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return result;
+        }
+        for (Collection<T> bucket : buckets.subMap(startDate, true, endDate, true).descendingMap().values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+}
@@ -11,4 +11,13 @@ public interface Findable<T> {
      * @return A list of objects matching the date.
      */
     public ArrayList<T> find(LocalDate date);
+
+    /**
+     * Returns a list of objects from the start date to the end date, both inclusive.
+     *
+     * @param startDate The first date to be matched.
+     * @param endDate The last date to be matched.
+     * @return A list of objects within the range of dates.
+     */
+    public ArrayList<T> find(LocalDate startDate, LocalDate endDate);
 }
@@ -55,10 +55,20 @@ public abstract class Goal {
      */
     public static boolean checkDate(LocalDate date, TimeSpan timeSpan) {
         final LocalDate endDate = LocalDate.now();
-        final LocalDate startDate = endDate.minusDays(timeSpan.getDays() - 1);
+        final LocalDate startDate = getStartDate(timeSpan);
         return !(date.isBefore(startDate) || date.isAfter(endDate));
     }
 
+    /**
+     * Returns the first date of the time span, which ends today.
+     *
+     * @param timeSpan The time span of the goal.
+     * @return         The first date of the time span.
+     */
+    public static LocalDate getStartDate(TimeSpan timeSpan) {
+        return LocalDate.now().minusDays(timeSpan.getDays() - 1);
+    }
+
     /**
      * Returns whether the goal is achieved.
      *
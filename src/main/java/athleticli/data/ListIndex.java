@@ -0,0 +1,67 @@
+package athleticli.data;
+
+import java.util.List;
+
+/**
+ * Defines a structure derived from the items of a <code>StorableList</code>, which the list keeps up to date
+ * through its mutators, so that queries do not need to scan the list.
+ *
+ * @param <T> The type of the indexed items.
+ */
+public interface ListIndex<T> {
+    /**
+     * Adds an item appended to the list.
+     *
+     * @param item The item to be added.
+     */
+    void add(T item);
+
+    /**
+     * Adds an item inserted before the end of the list, which changes the order of the items after it.
+     * By default, the item is added and then the index is reordered.
+     *
+     * @param position  The index of the item in the list.
+     * @param item      The item to be added.
+     * @param items     All items in their new order, including the added one.
+     */
+    default void insert(int position, T item, List<T> items) {
+        add(item);
+        reorder(items);
+    }
+
+    /**
+     * Removes an item from the index. Items may have been edited in place since they were added,
+     * so implementations should remember what they derived from each item.
+     *
+     * @param item The item to be removed.
+     */
+    void remove(T item);
+
+    /**
+     * Replaces an item at the same position of the list.
+     *
+     * @param oldItem   The item to be replaced.
+     * @param newItem   The item replacing it.
+     * @return          Whether the index still matches the order of the list.
+     *                  If not, {@link #reorder(List)} is called afterwards.
+     */
+    default boolean replace(T oldItem, T newItem) {
+        remove(oldItem);
+        add(newItem);
+        return true;
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    void clear();
+
+    /**
+     * Updates the index after the order of the items in the list changed.
+     * Indexes not depending on the order can ignore it.
+     *
+     * @param items All items in their new order.
+     */
+    default void reorder(List<T> items) {
+    }
+}
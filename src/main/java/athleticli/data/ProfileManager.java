@@ -0,0 +1,152 @@
+package athleticli.data;
+
+import static athleticli.common.Config.DATA_DIRECTORY;
+import static athleticli.common.Config.PROFILE_CACHE_CAPACITY;
+import static athleticli.common.Config.PROFILE_DIRECTORY;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import athleticli.exceptions.AthletiException;
+
+/**
+ * Keeps the data of named profiles, e.g., one for each athlete, each stored in a directory of its own.
+ * The default profile is stored in {@link athleticli.common.Config#DATA_DIRECTORY} as before profiles existed,
+ * and any other profile in the subdirectory of {@link athleticli.common.Config#PROFILE_DIRECTORY} named after it.
+ * The most recently used profiles are kept loaded in a bounded LRU cache, so switching back to one of them does
+ * not reload its files. When the cache is full, the least recently used profile is saved and dropped.
+ */
+public class ProfileManager {
+    public static final String DEFAULT_PROFILE = "default";
+    private static final Logger logger = Logger.getLogger(ProfileManager.class.getName());
+    private static ProfileManager profileManagerInstance;
+    private final int capacity;
+    /* in access order, so that the first entry is the least recently used profile */
+    private final LinkedHashMap<String, Data> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private String currentProfile = DEFAULT_PROFILE;
+
+    /**
+     * Constructs a manager using the default profile.
+     *
+     * @param defaultData   The data of the default profile, which is loaded by the caller.
+     * @param capacity      The maximum number of profiles kept loaded.
+     */
+    public ProfileManager(Data defaultData, int capacity) {
+        this.capacity = capacity;
+        cache.put(DEFAULT_PROFILE, defaultData);
+    }
+
+    /**
+     * Returns the singleton instance of `ProfileManager`, whose default profile is {@link Data#getInstance()}.
+     *
+     * @return  The singleton instance of `ProfileManager`.
+     */
+    public static synchronized ProfileManager getInstance() {
+        if (profileManagerInstance == null) {
+            profileManagerInstance = new ProfileManager(Data.getInstance(), PROFILE_CACHE_CAPACITY);
+        }
+        return profileManagerInstance;
+    }
+
+    /**
+     * Returns the directory of the files of a profile.
+     *
+     * @param profile   The name of the profile.
+     * @return          The directory of its files.
+     */
+    public static String getDirectory(String profile) {
+        if (profile.equals(DEFAULT_PROFILE)) {
+            return DATA_DIRECTORY;
+        }
+        return Path.of(PROFILE_DIRECTORY, profile).toString();
+    }
+
+    /**
+     * Returns the name of the profile in use.
+     *
+     * @return The name of the profile in use.
+     */
+    public synchronized String getCurrentProfile() {
+        return currentProfile;
+    }
+
+    /**
+     * Returns the data of the profile in use.
+     *
+     * @return The data of the profile in use.
+     */
+    public synchronized Data getCurrentData() {
+        return cache.get(currentProfile);
+    }
+
+    /**
+     * Returns the data of all profiles kept loaded, from the least to the most recently used.
+     *
+     * @return The data of the profiles kept loaded.
+     */
+    public synchronized List<Data> getLoadedData() {
+        return new ArrayList<>(cache.values());
+    }
+
+    /**
+     * Uses a profile, loading its data unless it is kept loaded already.
+     * If the data cannot be loaded, the profile in use is kept.
+     *
+     * @param profile           The name of the profile.
+     * @return                  Whether the data has been loaded from its files.
+     * @throws AthletiException If the data cannot be loaded.
+     */
+    public synchronized boolean switchTo(String profile) throws AthletiException {
+        boolean isLoaded = false;
+        if (!cache.containsKey(profile)) {
+            final Data data = createData(profile);
+            data.load();
+            cache.put(profile, data);
+            isLoaded = true;
+        }
+        /* marks the profile as the most recently used */
+        cache.get(profile);
+        currentProfile = profile;
+        evict();
+        return isLoaded;
+    }
+
+    /**
+     * Creates empty data stored in the directory of a profile.
+     *
+     * @param profile   The name of the profile.
+     * @return          The empty data of the profile.
+     */
+    protected Data createData(String profile) {
+        return new Data(getDirectory(profile));
+    }
+
+    /**
+     * Saves and drops the least recently used profiles until the cache is within its capacity.
+     * A profile that cannot be saved is kept, so that its unsaved records are not lost, and dropped later.
+     */
+    private void evict() {
+        final Iterator<Map.Entry<String, Data>> profiles = cache.entrySet().iterator();
+        while (cache.size() > capacity && profiles.hasNext()) {
+            final Map.Entry<String, Data> eldest = profiles.next();
+            final String profile = eldest.getKey();
+            if (profile.equals(currentProfile)) {
+                continue;
+            }
+            try {
+                eldest.getValue().save();
+                profiles.remove();
+                logger.fine(() -> "Profile evicted: " + profile);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Profile kept as it cannot be saved: " + profile, e);
+            }
+        }
+    }
+}
@@ -1,55 +1,653 @@
 package athleticli.data;
 
+import static athleticli.common.Config.JOURNAL_SUFFIX;
 import static athleticli.ui.Message.MESSAGE_LOAD_EXCEPTION;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import athleticli.exceptions.AthletiException;
 import athleticli.exceptions.WrappedAthletiException;
+import athleticli.parser.Parser;
 import athleticli.storage.Storage;
 
-public abstract class StorableList<T> extends ArrayList<T> {
+/**
+ * Represents a list stored in a snapshot file, whose mutations since the snapshot was written are appended to a
+ * journal file. Each snapshot starts with a marker holding its random id, which is also appended to the journal
+ * when the snapshot is taken. The journal records after that marker are the only ones the snapshot does not
+ * contain, so a journal that is not rewritten yet when the program dies does not replay the others twice.
+ */
+public abstract class StorableList<T> extends CircularArrayList<T> {
+    /* the id of snapshots written before they were marked, which contain none of the journal records */
+    public static final long NO_SNAPSHOT_ID = 0;
+    private static final Logger logger = Logger.getLogger(StorableList.class.getName());
+    private static final String JOURNAL_ADD = "ADD";
+    private static final String JOURNAL_SET = "SET";
+    private static final String JOURNAL_REMOVE = "REMOVE";
+    private static final String JOURNAL_SORT = "SORT";
+    private static final String JOURNAL_CLEAR = "CLEAR";
+    private static final String JOURNAL_SNAPSHOT = "SNAPSHOT";
     private String path;
+    private String journalPath;
+    private boolean isJournaling = false;
+    /* the number of records in the journal file, which is the number of records written since the last save */
+    private int journalRecordCount = 0;
+    private long version = 0;
+    private long savedVersion = 0;
+    private final ArrayList<ListIndex<T>> indexes = new ArrayList<>();
+    private final Comparator<? super T> order;
 
     /**
      * Constructs an empty list with its storage path.
      */
     public StorableList(String path) {
+        this(path, null);
+    }
+
+    /**
+     * Constructs an empty list with its storage path, which keeps its items in an order.
+     * The list is sorted when it is loaded, and {@link #addInOrder(Object)} and {@link #setInOrder(int, Object)}
+     * keep it sorted afterwards.
+     *
+     * @param path  The path of the file storing this list.
+     * @param order The order of the items, or <code>null</code> if the list is unordered.
+     */
+    public StorableList(String path, Comparator<? super T> order) {
         this.path = path;
+        this.journalPath = path + JOURNAL_SUFFIX;
+        this.order = order;
     }
 
     /**
-     * Saves to a file.
+     * Registers an index to be kept up to date by the mutators of this list.
+     * Subclasses should do this in their constructors, before any item is added.
+     *
+     * @param index The index to be registered.
+     */
+    protected void addIndex(ListIndex<T> index) {
+        indexes.add(index);
+    }
+
+    /**
+     * Returns the path of the file storing this list.
+     *
+     * @return The path of the file storing this list.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the paths of the files written when this list is saved, apart from its journal.
+     * Subclasses storing their snapshot in other files should override this accordingly.
+     *
+     * @return The paths of the snapshot files.
+     */
+    public List<String> getSnapshotPaths() {
+        return List.of(path);
+    }
+
+    /**
+     * Moves the files storing this list into a directory, keeping their names.
+     * This must be done before the list is loaded or saved.
+     *
+     * @param directory The directory of the files storing this list.
+     */
+    public void setDirectory(String directory) {
+        path = resolve(directory, path);
+        journalPath = path + JOURNAL_SUFFIX;
+    }
+
+    /**
+     * Returns the path of a file with the same name as the given one in a directory.
+     *
+     * @param directory The directory of the file.
+     * @param path      The path of a file with the name to be kept.
+     * @return          The path of the file in the directory.
+     */
+    protected static String resolve(String directory, String path) {
+        return Path.of(directory).resolve(Path.of(path).getFileName()).toString();
+    }
+
+    /**
+     * Returns whether the list has been modified since it was last loaded or saved.
+     *
+     * @return Whether the list has been modified since it was last loaded or saved.
+     */
+    public boolean isDirty() {
+        return version != savedVersion;
+    }
+
+    /**
+     * Returns the number of mutations since the list was last loaded or saved.
+     *
+     * @return The number of mutations not saved yet.
+     */
+    public long getUnsavedCount() {
+        return version - savedVersion;
+    }
+
+    /**
+     * Writes the items of a snapshot to a file. The items are unparsed when the snapshot is taken, so the writer
+     * only holds their lines or bytes and does not access the items, which may be edited in place meanwhile.
+     */
+    @FunctionalInterface
+    protected interface SnapshotWriter {
+        /**
+         * Writes the items to the file.
+         *
+         * @throws IOException If the file cannot be written.
+         */
+        void write() throws IOException;
+    }
+
+    /**
+     * Holds the items of the list unparsed as they were when the snapshot was taken, so that they can be written
+     * without holding the lock on the data, and remembers which journal records they already contain.
+     */
+    public class Snapshot {
+        private final SnapshotWriter writer;
+        private final long id;
+        private final long version;
+        private final int journalRecordCount;
+        private final boolean isMarked;
+
+        private Snapshot(SnapshotWriter writer, long id, long version, int journalRecordCount, boolean isMarked) {
+            this.writer = writer;
+            this.id = id;
+            this.version = version;
+            this.journalRecordCount = journalRecordCount;
+            this.isMarked = isMarked;
+        }
+
+        /**
+         * Writes the items to the file of the list. This does not access the list.
+         *
+         * @throws IOException If the file cannot be written.
+         */
+        public void write() throws IOException {
+            writer.write();
+        }
+
+        /**
+         * Marks the written snapshot as saved, and removes the journal records it contains, which leaves only
+         * its marker and the records of the mutations made while it was being written.
+         * The list must not be modified during the call.
+         *
+         * @throws IOException If the journal cannot be rewritten.
+         */
+        public void commit() throws IOException {
+            commitSnapshot(this);
+        }
+    }
+
+    /**
+     * Saves to a file, and then truncates the journal to the marker of the snapshot, which contains all records.
+     * Journaling is resumed afterwards, as the files match the list again.
      */
     public void save() throws IOException {
-        Storage.save(path, this.stream().map(item -> unparse(item) + "\n"));
+        final Snapshot snapshot = takeSnapshot();
+        snapshot.write();
+        snapshot.commit();
+    }
+
+    /**
+     * Takes a snapshot of the list to be written by {@link Snapshot#write()} and then committed by
+     * {@link Snapshot#commit()}, and appends its marker to the journal if the list is journaling.
+     * If the marker cannot be appended, journaling is stopped until the snapshot is committed,
+     * as the records appended meanwhile could not be told apart from those the snapshot contains.
+     * The list must not be modified while the snapshot is being taken.
+     *
+     * @return The snapshot of the list.
+     */
+    public Snapshot takeSnapshot() {
+        final long id = ThreadLocalRandom.current().nextLong(NO_SNAPSHOT_ID + 1, Long.MAX_VALUE);
+        final int recordCount = journalRecordCount;
+        if (isJournaling) {
+            try {
+                Storage.append(journalPath, getMarker(id) + "\n");
+                journalRecordCount++;
+            } catch (IOException e) {
+                logger.warning(() -> "Failed to append to journal " + journalPath + ": " + e);
+                isJournaling = false;
+            }
+        }
+        return new Snapshot(prepareSnapshot(id), id, version, recordCount, isJournaling);
+    }
+
+    /**
+     * Removes the journal records contained in a written snapshot, and resumes journaling if the files match the list.
+     * The journal of a snapshot taken without journaling only keeps its marker, as its other records are stale.
+     */
+    private void commitSnapshot(Snapshot snapshot) throws IOException {
+        final List<String> records;
+        if (!snapshot.isMarked || journalRecordCount == snapshot.journalRecordCount + 1) {
+            records = List.of(getMarker(snapshot.id));
+        } else {
+            try (Stream<String> lines = Storage.load(journalPath)) {
+                records = lines.skip(snapshot.journalRecordCount).collect(Collectors.toList());
+            }
+        }
+        Storage.save(journalPath, records.stream().map(record -> record + "\n"));
+        journalRecordCount = records.size();
+        savedVersion = snapshot.version;
+        /* mutations made without journaling since the snapshot was taken are neither in the files nor the journal */
+        isJournaling = isJournaling || version == snapshot.version;
+    }
+
+    /**
+     * Stops appending mutations to the journal until the next load or save.
+     * This is used when the list in memory is about to diverge from the files on purpose,
+     * e.g., when it is cleared because another list failed to load.
+     */
+    public void stopJournaling() {
+        isJournaling = false;
     }
 
     /**
-     * Loads from a file.
+     * Loads from a file, replays the journal on top of it, and then starts journaling further mutations.
      */
     public void load() throws AthletiException {
+        isJournaling = false;
+        /* the stored date times are all checked against the time the load started */
+        Parser.beginBatch();
+        try {
+            loadAndReplay();
+        } finally {
+            Parser.endBatch();
+        }
+        isJournaling = true;
+    }
+
+    private void loadAndReplay() throws AthletiException {
+        final long snapshotId;
+        try {
+            snapshotId = loadSnapshot();
+        } catch (IOException | UncheckedIOException | AthletiException | NumberFormatException e) {
+            throw new AthletiException(String.format(MESSAGE_LOAD_EXCEPTION, path));
+        }
+        /* the journal was recorded against the sorted list, so the snapshot has to be sorted before replaying it */
+        if (order != null && !isInOrder()) {
+            sort();
+        }
+        savedVersion = version;
+        try (Stream<String> lines = Storage.load(journalPath)) {
+            final List<String> records = lines.collect(Collectors.toList());
+            journalRecordCount = records.size();
+            for (String record : records.subList(findFirstRecordAfter(records, snapshotId), records.size())) {
+                replay(record);
+            }
+        } catch (IOException | UncheckedIOException | AthletiException | IndexOutOfBoundsException
+                 | NumberFormatException e) {
+            throw new AthletiException(String.format(MESSAGE_LOAD_EXCEPTION, journalPath));
+        }
+    }
+
+    /**
+     * Returns the index of the first journal record the snapshot does not contain, which follows its marker.
+     * A snapshot whose marker is not in the journal was taken without journaling, so none of the records follow it.
+     */
+    private static int findFirstRecordAfter(List<String> records, long snapshotId) {
+        if (snapshotId == NO_SNAPSHOT_ID) {
+            return 0;
+        }
+        final int markerIndex = records.lastIndexOf(getMarker(snapshotId));
+        return markerIndex < 0 ? records.size() : markerIndex + 1;
+    }
+
+    /**
+     * Returns the marker of a snapshot, which starts its file and is appended to the journal when it is taken.
+     *
+     * @param snapshotId    The id of the snapshot.
+     * @return              The marker of the snapshot.
+     */
+    protected static String getMarker(long snapshotId) {
+        return JOURNAL_SNAPSHOT + " " + snapshotId;
+    }
+
+    /**
+     * Returns whether a line of a snapshot file is the marker of the snapshot.
+     */
+    private static boolean isMarker(CharSequence line) {
+        return Parser.startsWith(line, JOURNAL_SNAPSHOT + " ", 0);
+    }
+
+    private static long parseMarker(CharSequence marker) {
+        return Long.parseLong(marker, JOURNAL_SNAPSHOT.length() + 1, marker.length(), 10);
+    }
+
+    /**
+     * Reads the id of the snapshot in the text file storing this list, without loading its items.
+     *
+     * @return The id of the snapshot, or {@link #NO_SNAPSHOT_ID} if the file has no marker.
+     * @throws IOException If the file cannot be read.
+     */
+    protected long loadSnapshotId() throws IOException {
+        try (Stream<String> lines = Storage.load(path)) {
+            return lines.findFirst().filter(StorableList::isMarker).map(StorableList::parseMarker)
+                    .orElse(NO_SNAPSHOT_ID);
+        }
+    }
+
+    /**
+     * Unparses all items, and returns the writer of the snapshot file, which holds the marker of the snapshot and
+     * then one unparsed item per line. Subclasses may override this to store the snapshot in a different format,
+     * which must keep the id of the snapshot and be fully encoded before this returns.
+     *
+     * @param snapshotId    The id of the snapshot.
+     * @return              The writer of the snapshot file.
+     */
+    protected SnapshotWriter prepareSnapshot(long snapshotId) {
+        final ArrayList<String> lines = new ArrayList<>(size() + 1);
+        lines.add(getMarker(snapshotId) + "\n");
+        for (T item : this) {
+            lines.add(unparse(item) + "\n");
+        }
+        return () -> Storage.save(path, lines.stream());
+    }
+
+    /**
+     * Appends all items in the snapshot file to the list, parsing one item per line after the marker.
+     * Files written before snapshots were marked have no marker.
+     * The file is read through {@link Storage#loadLines}, so the lines are passed to {@link #parse(CharSequence)}
+     * as views of the mapped file instead of as strings.
+     * Subclasses overriding {@link #prepareSnapshot(long)} should override this accordingly.
+     *
+     * @return The id of the snapshot, or {@link #NO_SNAPSHOT_ID} if it has no marker.
+     */
+    protected long loadSnapshot() throws IOException, AthletiException {
+        final SnapshotReader reader = new SnapshotReader();
         try {
-            Storage.load(path).map(s -> {
+            Storage.loadLines(path, reader);
+        } catch (WrappedAthletiException e) {
+            throw e.getCause();
+        }
+        return reader.snapshotId;
+    }
+
+    /**
+     * Adds the item on each line of a snapshot file to the list, and reads the marker on its first line.
+     */
+    private class SnapshotReader implements Consumer<CharSequence> {
+        private long snapshotId = NO_SNAPSHOT_ID;
+        private boolean isFirstLine = true;
+
+        @Override
+        public void accept(CharSequence line) {
+            if (isFirstLine && isMarker(line)) {
+                snapshotId = parseMarker(line);
+            } else {
                 try {
-                    return parse(s);
+                    add(parse(line));
                 } catch (AthletiException e) {
                     throw new WrappedAthletiException(e);
                 }
-            }).forEachOrdered(this::add);
-        } catch (IOException | WrappedAthletiException e) {
-            throw new AthletiException(String.format(MESSAGE_LOAD_EXCEPTION, path));
+            }
+            isFirstLine = false;
+        }
+    }
+
+    /**
+     * Applies a single journal record to the list.
+     *
+     * @param record            The journal record to be applied.
+     * @throws AthletiException If the record or the item inside it is invalid.
+     */
+    private void replay(String record) throws AthletiException {
+        final String[] parts = record.split(" ", 3);
+        switch (parts[0]) {
+        case JOURNAL_ADD:
+            add(Integer.parseInt(parts[1]), parse(parts[2]));
+            break;
+        case JOURNAL_SET:
+            /* the old item is removed first so that parsers checking for duplicates do not reject the new one */
+            final int index = Integer.parseInt(parts[1]);
+            final T oldItem = remove(index);
+            assert oldItem != null : "Edited item should not be null";
+            add(index, parse(parts[2]));
+            break;
+        case JOURNAL_REMOVE:
+            remove(Integer.parseInt(parts[1]));
+            break;
+        case JOURNAL_SORT:
+            sort();
+            break;
+        case JOURNAL_CLEAR:
+            clear();
+            break;
+        case JOURNAL_SNAPSHOT:
+            /* marks where a later snapshot was taken, which does not matter to this one */
+            break;
+        default:
+            throw new AthletiException(String.format(MESSAGE_LOAD_EXCEPTION, journalPath));
+        }
+    }
+
+    /**
+     * Marks the list as modified, and appends a record to the journal if the list has been loaded.
+     * A failed append is only logged, as the next save will still write the whole list.
+     *
+     * @param operation The operation to be recorded.
+     * @param index     The index affected by the operation.
+     * @param item      The item written by the operation.
+     */
+    private void journal(String operation, int index, T item) {
+        version++;
+        if (isJournaling) {
+            appendToJournal(operation + " " + index + " " + unparse(item));
+        }
+    }
+
+    private void journal(String operation, int index) {
+        version++;
+        if (isJournaling) {
+            appendToJournal(operation + " " + index);
+        }
+    }
+
+    private void journal(String operation) {
+        version++;
+        if (isJournaling) {
+            appendToJournal(operation);
+        }
+    }
+
+    /**
+     * Adds an item to the indexes. Items added before the end of the list also change the order,
+     * which indexes depending on it handle in {@link ListIndex#insert(int, Object, List)}.
+     */
+    private void index(int index, T item) {
+        for (ListIndex<T> listIndex : indexes) {
+            if (index == size() - 1) {
+                listIndex.add(item);
+            } else {
+                listIndex.insert(index, item, this);
+            }
+        }
+    }
+
+    private void reindex(T oldItem, T newItem) {
+        for (ListIndex<T> listIndex : indexes) {
+            if (!listIndex.replace(oldItem, newItem)) {
+                listIndex.reorder(this);
+            }
+        }
+    }
+
+    private void unindex(T item) {
+        for (ListIndex<T> listIndex : indexes) {
+            listIndex.remove(item);
+        }
+    }
+
+    private void appendToJournal(String record) {
+        try {
+            Storage.append(journalPath, record + "\n");
+            journalRecordCount++;
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to append to journal " + journalPath + ": " + e);
+        }
+    }
+
+    @Override
+    public boolean add(T t) {
+        super.add(t);
+        index(size() - 1, t);
+        journal(JOURNAL_ADD, size() - 1, t);
+        return true;
+    }
+
+    @Override
+    public void add(int index, T t) {
+        super.add(index, t);
+        index(index, t);
+        journal(JOURNAL_ADD, index, t);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> items) {
+        for (T t : items) {
+            add(t);
+        }
+        return !items.isEmpty();
+    }
+
+    @Override
+    public T set(int index, T t) {
+        final T oldItem = super.set(index, t);
+        reindex(oldItem, t);
+        journal(JOURNAL_SET, index, t);
+        return oldItem;
+    }
+
+    @Override
+    public T remove(int index) {
+        final T oldItem = super.remove(index);
+        unindex(oldItem);
+        journal(JOURNAL_REMOVE, index);
+        return oldItem;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        final int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        indexes.forEach(ListIndex::clear);
+        journal(JOURNAL_CLEAR);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        super.sort(comparator);
+        indexes.forEach(index -> index.reorder(this));
+        journal(JOURNAL_SORT);
+    }
+
+    /**
+     * Sorts the list in its order. Lists without an order are left untouched.
+     */
+    public void sort() {
+        if (order != null) {
+            sort(order);
+        }
+    }
+
+    /**
+     * Adds an item at its place in the order of the list, after any items equal to it.
+     * This has the same result as appending the item and sorting the list, but only searches for the place
+     * and shifts the items after it. Lists without an order append the item.
+     *
+     * @param item  The item to be added.
+     * @return      The index of the added item.
+     */
+    public int addInOrder(T item) {
+        final int index = order == null ? size() : search(item, 0, size(), true);
+        add(index, item);
+        return index;
+    }
+
+    /**
+     * Replaces the item at an index, and moves the new item to its place in the order of the list.
+     * This has the same result as setting the item and sorting the list, as the other items are already sorted.
+     * The new item may be the old one edited in place.
+     *
+     * @param index The index of the item to be replaced.
+     * @param item  The item replacing it.
+     * @return      The index of the new item.
+     */
+    public int setInOrder(int index, T item) {
+        int newIndex = index;
+        if (order != null && index > 0 && order.compare(item, get(index - 1)) < 0) {
+            newIndex = search(item, 0, index, true);
+        } else if (order != null && index < size() - 1 && order.compare(item, get(index + 1)) > 0) {
+            /* the items after the old index shift left once it is removed */
+            newIndex = search(item, index + 1, size(), false) - 1;
+        }
+        if (newIndex == index) {
+            set(index, item);
+        } else {
+            remove(index);
+            add(newIndex, item);
+        }
+        return newIndex;
+    }
+
+    /**
+     * Returns the first index within the range whose item comes after the given item,
+     * or also equals it if <code>isAfterEqual</code> is false. The range must be sorted.
+     */
+    private int search(T item, int from, int to, boolean isAfterEqual) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = order.compare(get(middle), item);
+            if (comparison > 0 || comparison == 0 && !isAfterEqual) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private boolean isInOrder() {
+        for (int i = 1; i < size(); i++) {
+            if (order.compare(get(i - 1), get(i)) > 0) {
+                return false;
+            }
         }
+        return true;
     }
 
     /**
-     * Parses a T object from a string.
+     * Parses a T object from a string. When the list is loaded, the string may be a view of a line of a mapped
+     * file, which is only valid during the call, so anything kept from it has to be copied, e.g., with
+     * <code>toString()</code>.
      *
      * @param s     The string to be parsed.
      * @return      The T object parsed from the string.
      */
-    public abstract T parse(String s) throws AthletiException;
+    public abstract T parse(CharSequence s) throws AthletiException;
 
     /**
      * Unparses a T object to a string.
@@ -26,8 +26,8 @@ public class ActivityGoalList extends StorableList<ActivityGoal> {
      * @return The activity goal parsed from the string.
      */
     @Override
-    public ActivityGoal parse(String arguments) throws AthletiException {
-        return ActivityParser.parseActivityGoal(arguments);
+    public ActivityGoal parse(CharSequence arguments) throws AthletiException {
+        return ActivityParser.parseActivityGoal(arguments.toString());
     }
 
     /**
@@ -1,28 +1,65 @@
 package athleticli.data.activity;
 
+import static athleticli.common.Config.IS_ACTIVITY_SNAPSHOT_BINARY;
 import static athleticli.common.Config.PATH_ACTIVITY;
+import static athleticli.common.Config.PATH_ACTIVITY_SNAPSHOT;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
+import athleticli.data.DateIndex;
 import athleticli.data.Findable;
 import athleticli.data.StorableList;
 import athleticli.data.Goal;
 import athleticli.exceptions.AthletiException;
 import athleticli.parser.ActivityParser;
 import athleticli.parser.Parameter;
+import athleticli.parser.Parser;
+import athleticli.storage.Storage;
 import athleticli.ui.Message;
 
 /**
  * Represents a list of activities.
  */
 public class ActivityList extends StorableList<Activity> implements Findable {
+    private final DateIndex<Activity> dateIndex =
+            new DateIndex<>(activity -> activity.getStartDateTime().toLocalDate());
+    private final ActivityRollup rollup = new ActivityRollup();
+    private final boolean isSnapshotBinary;
+    private String snapshotPath = PATH_ACTIVITY_SNAPSHOT;
+
     /**
-     * Constructs an empty activity list.
+     * Constructs an empty activity list, which keeps the latest activity first.
      */
     public ActivityList() {
-        super(PATH_ACTIVITY);
+        this(IS_ACTIVITY_SNAPSHOT_BINARY);
+    }
+
+    /**
+     * Constructs an empty activity list, which keeps the latest activity first.
+     *
+     * @param isSnapshotBinary Whether the activities are also stored in the binary snapshot.
+     */
+    ActivityList(boolean isSnapshotBinary) {
+        super(PATH_ACTIVITY, Comparator.comparing(Activity::getStartDateTime).reversed());
+        this.isSnapshotBinary = isSnapshotBinary;
+        addIndex(dateIndex);
+        addIndex(rollup);
+    }
+
+    /**
+     * Moves the binary snapshot into the directory as well.
+     */
+    @Override
+    public void setDirectory(String directory) {
+        super.setDirectory(directory);
+        snapshotPath = resolve(directory, snapshotPath);
     }
 
     /**
@@ -33,20 +70,19 @@ public class ActivityList extends StorableList<Activity> implements Findable {
      */
     @Override
     public ArrayList<Object> find(LocalDate date) {
-        ArrayList<Object> result = new ArrayList<>();
-        for (Activity activity : this) {
-            if (activity.getStartDateTime().toLocalDate().equals(date)) {
-                result.add(activity);
-            }
-        }
-        return result;
+        return new ArrayList<>(dateIndex.find(date));
     }
 
     /**
-     * Sorts the activities in the list by date.
+     * Returns a list of activities from the start date to the end date, both inclusive.
+     *
+     * @param startDate The first date to be matched.
+     * @param endDate The last date to be matched.
+     * @return A list of activities within the range of dates.
      */
-    public void sort() {
-        this.sort(Comparator.comparing(Activity::getStartDateTime).reversed());
+    @Override
+    public ArrayList<Object> find(LocalDate startDate, LocalDate endDate) {
+        return new ArrayList<>(dateIndex.find(startDate, endDate));
     }
 
     /**
@@ -74,14 +110,7 @@ public class ActivityList extends StorableList<Activity> implements Findable {
      * @return The total distance of all activities in the list matching the specified activity class and timespan.
      */
     public int getTotalDistance(Class<?> activityClass, Goal.TimeSpan timeSpan) {
-        ArrayList<Activity> filteredActivities = filterByTimespan(timeSpan);
-        int totalDistance = 0;
-        for (Activity activity : filteredActivities) {
-            if (activityClass.isInstance(activity)) {
-                totalDistance += activity.getDistance();
-            }
-        }
-        return totalDistance;
+        return (int) rollup.getTotalDistance(activityClass, Goal.getStartDate(timeSpan), LocalDate.now());
     }
 
     /**
@@ -92,14 +121,54 @@ public class ActivityList extends StorableList<Activity> implements Findable {
      * @return The total moving time of all activities in the list matching the specified activity class.
      */
     public int getTotalDuration(Class<?> activityClass, Goal.TimeSpan timeSpan) {
-        ArrayList<Activity> filteredActivities = filterByTimespan(timeSpan);
-        int movingTime = 0;
-        for (Activity activity : filteredActivities) {
-            if (activityClass.isInstance(activity)) {
-                movingTime += activity.getMovingTime().toSecondOfDay();
+        return (int) rollup.getTotalMovingTime(activityClass, Goal.getStartDate(timeSpan), LocalDate.now());
+    }
+
+    /**
+     * Returns the path of the binary snapshot as well if it is enabled.
+     */
+    @Override
+    public List<String> getSnapshotPaths() {
+        if (isSnapshotBinary) {
+            return List.of(snapshotPath, getPath());
+        }
+        return super.getSnapshotPaths();
+    }
+
+    /**
+     * Writes the activities to the binary snapshot if it is enabled, and then always to the text file with the
+     * same snapshot id, so that the text file can be exported and is never older than the binary snapshot.
+     */
+    @Override
+    protected SnapshotWriter prepareSnapshot(long snapshotId) {
+        final SnapshotWriter textWriter = super.prepareSnapshot(snapshotId);
+        if (!isSnapshotBinary) {
+            return textWriter;
+        }
+        final ByteBuffer snapshot = ActivitySnapshot.encode(this, snapshotId);
+        return () -> {
+            Storage.saveBytes(snapshotPath, snapshot);
+            textWriter.write();
+        };
+    }
+
+    /**
+     * Reads the activities from the binary snapshot if it is enabled and has the same snapshot id as the text file.
+     * Otherwise, the activities are imported from the text file, e.g., if it has been replaced, or if it has been
+     * saved while the binary snapshot was disabled. Binary snapshots without an id were written without the text
+     * file, so they are always read.
+     */
+    @Override
+    protected long loadSnapshot() throws IOException, AthletiException {
+        if (isSnapshotBinary && Files.exists(Path.of(snapshotPath))) {
+            final ByteBuffer snapshot = Storage.loadBytes(snapshotPath);
+            final long snapshotId = ActivitySnapshot.decodeSnapshotId(snapshot);
+            if (snapshotId == NO_SNAPSHOT_ID || snapshotId == loadSnapshotId()) {
+                addAll(ActivitySnapshot.decode(snapshot));
+                return snapshotId;
             }
         }
-        return movingTime;
+        return super.loadSnapshot();
     }
 
     /**
@@ -110,28 +179,29 @@ public class ActivityList extends StorableList<Activity> implements Findable {
      * @throws AthletiException If the string is invalid or an unknown indicator is found.
      */
     @Override
-    public Activity parse(String s) throws AthletiException {
-        String[] parts = s.split(" ", 2);
-
-        try {
-            String indicator = parts[0];
-            String arguments = parts[1];
-
-            switch (indicator) {
-            case Parameter.ACTIVITY_STORAGE_INDICATOR:
-                return ActivityParser.parseActivity(arguments);
-            case Parameter.RUN_STORAGE_INDICATOR:
-                return ActivityParser.parseRunCycle(arguments, true);
-            case Parameter.CYCLE_STORAGE_INDICATOR:
-                return ActivityParser.parseRunCycle(arguments, false);
-            case Parameter.SWIM_STORAGE_INDICATOR:
-                return ActivityParser.parseSwim(arguments);
-            default:
-                throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_INDICATOR);
-            }
-        } catch (ArrayIndexOutOfBoundsException e) {
+    public Activity parse(CharSequence s) throws AthletiException {
+        final int indicatorEnd = Parser.indexOf(s, ' ');
+        if (indicatorEnd == -1) {
             throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_FORMAT);
         }
+        final CharSequence arguments = s.subSequence(indicatorEnd + 1, s.length());
+        if (isIndicator(s, indicatorEnd, Parameter.ACTIVITY_STORAGE_INDICATOR)) {
+            return ActivityParser.parseActivity(arguments);
+        } else if (isIndicator(s, indicatorEnd, Parameter.RUN_STORAGE_INDICATOR)) {
+            return ActivityParser.parseRunCycle(arguments, true);
+        } else if (isIndicator(s, indicatorEnd, Parameter.CYCLE_STORAGE_INDICATOR)) {
+            return ActivityParser.parseRunCycle(arguments, false);
+        } else if (isIndicator(s, indicatorEnd, Parameter.SWIM_STORAGE_INDICATOR)) {
+            return ActivityParser.parseSwim(arguments);
+        }
+        throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_INDICATOR);
+    }
+
+    /**
+     * Returns whether the indicator at the start of a stored activity, which ends at a position, is the given one.
+     */
+    private static boolean isIndicator(CharSequence s, int indicatorEnd, String indicator) {
+        return indicatorEnd == indicator.length() && Parser.startsWith(s, indicator, 0);
     }
 
     /**
@@ -0,0 +1,100 @@
+package athleticli.data.activity;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+import athleticli.data.DailyTotals;
+import athleticli.data.ListIndex;
+
+/**
+ * Keeps the daily distance and moving time of the activities per sport, so that the progress of
+ * activity goals can be computed without scanning the activity list.
+ * Every activity counts towards the general <code>Activity</code> totals, and also towards the totals of its
+ * own sport if it is a run, a cycle or a swim.
+ */
+public class ActivityRollup implements ListIndex<Activity> {
+    private final HashMap<Class<?>, DailyTotals> distances = new HashMap<>();
+    private final HashMap<Class<?>, DailyTotals> movingTimes = new HashMap<>();
+    /* what was added for each activity, since activities may be edited in place before being re-indexed */
+    private final IdentityHashMap<Activity, Contribution> contributions = new IdentityHashMap<>();
+
+    /**
+     * Represents the values an activity added to the totals.
+     */
+    private static class Contribution {
+        private final Class<?> sport;
+        private final LocalDate date;
+        private final int distance;
+        private final int movingTime;
+
+        Contribution(Activity activity) {
+            sport = activity.getClass();
+            date = activity.getStartDateTime().toLocalDate();
+            distance = activity.getDistance();
+            movingTime = activity.getMovingTime().toSecondOfDay();
+        }
+    }
+
+    @Override
+    public void add(Activity activity) {
+        final Contribution contribution = new Contribution(activity);
+        contributions.put(activity, contribution);
+        apply(contribution, 1);
+    }
+
+    @Override
+    public void remove(Activity activity) {
+        final Contribution contribution = contributions.remove(activity);
+        if (contribution != null) {
+            apply(contribution, -1);
+        }
+    }
+
+    @Override
+    public void clear() {
+        distances.clear();
+        movingTimes.clear();
+        contributions.clear();
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        update(Activity.class, contribution, sign);
+        if (contribution.sport != Activity.class) {
+            update(contribution.sport, contribution, sign);
+        }
+    }
+
+    private void update(Class<?> sport, Contribution contribution, int sign) {
+        distances.computeIfAbsent(sport, key -> new DailyTotals())
+                .add(contribution.date, (long) sign * contribution.distance);
+        movingTimes.computeIfAbsent(sport, key -> new DailyTotals())
+                .add(contribution.date, (long) sign * contribution.movingTime);
+    }
+
+    /**
+     * Returns the total distance of the activities of a sport within the range of dates.
+     *
+     * @param activityClass The activity class of the sport, or <code>Activity</code> for all sports.
+     * @param startDate     The first date to be matched.
+     * @param endDate       The last date to be matched.
+     * @return              The total distance.
+     */
+    public long getTotalDistance(Class<?> activityClass, LocalDate startDate, LocalDate endDate) {
+        final DailyTotals totals = distances.get(activityClass);
+        return totals == null ? 0 : totals.sum(startDate, endDate);
+    }
+
+    /**
+     * Returns the total moving time in seconds of the activities of a sport within the range of dates.
+     *
+     * @param activityClass The activity class of the sport, or <code>Activity</code> for all sports.
+     * @param startDate     The first date to be matched.
+     * @param endDate       The last date to be matched.
+     * @return              The total moving time in seconds.
+     */
+    public long getTotalMovingTime(Class<?> activityClass, LocalDate startDate, LocalDate endDate) {
+        final DailyTotals totals = movingTimes.get(activityClass);
+        return totals == null ? 0 : totals.sum(startDate, endDate);
+    }
+}
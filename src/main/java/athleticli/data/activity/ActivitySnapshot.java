@@ -0,0 +1,240 @@
+package athleticli.data.activity;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import athleticli.data.StorableList;
+import athleticli.exceptions.AthletiException;
+import athleticli.ui.Message;
+
+/**
+ * Encodes and decodes activities in a compact binary snapshot format.
+ * The activities are stored column by column, so that every column can be read in bulk:
+ * <ol>
+ *     <li>a header with a magic number, the format version, the id of the snapshot and the number of
+ *         activities,</li>
+ *     <li>a string table holding each distinct caption once,</li>
+ *     <li>the caption indices, start times in epoch seconds, moving times in seconds, distances,
+ *         elevation gains, sport tags and swimming styles.</li>
+ * </ol>
+ * The activities are encoded from and decoded into objects directly, as <code>ActivityList</code> holds them as
+ * objects. Times are stored to the second.
+ */
+public class ActivitySnapshot {
+    private static final byte TAG_ACTIVITY = 0;
+    private static final byte TAG_RUN = 1;
+    private static final byte TAG_CYCLE = 2;
+    private static final byte TAG_SWIM = 3;
+    private static final byte NO_STYLE = -1;
+    private static final int MAGIC = 0x41544841;
+    private static final int VERSION = 2;
+    /* the first version, whose snapshots have no id */
+    private static final int VERSION_UNMARKED = 1;
+    private static final long MIN_START = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+    private static final long MAX_START = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    /**
+     * Encodes the activities into a binary snapshot.
+     *
+     * @param activities    The activities to be encoded.
+     * @param snapshotId    The id of the snapshot.
+     * @return              A buffer containing the snapshot, ready to be written.
+     */
+    public static ByteBuffer encode(List<Activity> activities, long snapshotId) {
+        final int size = activities.size();
+        final HashMap<String, Integer> captionIndices = new HashMap<>();
+        final ArrayList<byte[]> captions = new ArrayList<>();
+        final int[] captionColumn = new int[size];
+        int captionBytes = 0;
+        for (int i = 0; i < size; i++) {
+            final String caption = activities.get(i).getCaption();
+            Integer captionIndex = captionIndices.get(caption);
+            if (captionIndex == null) {
+                captionIndex = captions.size();
+                captionIndices.put(caption, captionIndex);
+                final byte[] bytes = caption.getBytes(StandardCharsets.UTF_8);
+                captions.add(bytes);
+                captionBytes += bytes.length;
+            }
+            captionColumn[i] = captionIndex;
+        }
+
+        final int headerLength = 4 * Integer.BYTES + Long.BYTES;
+        final int stringTableLength = captions.size() * Integer.BYTES + captionBytes;
+        final int columnsLength = size * (4 * Integer.BYTES + Long.BYTES + 2 * Byte.BYTES);
+        final ByteBuffer buffer = ByteBuffer.allocate(headerLength + stringTableLength + columnsLength);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(snapshotId).putInt(size).putInt(captions.size());
+        for (byte[] caption : captions) {
+            buffer.putInt(caption.length).put(caption);
+        }
+        buffer.asIntBuffer().put(captionColumn);
+        buffer.position(buffer.position() + size * Integer.BYTES);
+        for (Activity activity : activities) {
+            buffer.putLong(activity.getStartDateTime().toEpochSecond(ZoneOffset.UTC));
+        }
+        for (Activity activity : activities) {
+            buffer.putInt(activity.getMovingTime().toSecondOfDay());
+        }
+        for (Activity activity : activities) {
+            buffer.putInt(activity.getDistance());
+        }
+        for (Activity activity : activities) {
+            buffer.putInt(getElevationGain(activity));
+        }
+        for (Activity activity : activities) {
+            buffer.put(getTag(activity));
+        }
+        for (Activity activity : activities) {
+            buffer.put(getStyle(activity));
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Reads the id of a binary snapshot without moving the position of the buffer.
+     *
+     * @param buffer            A buffer containing the snapshot.
+     * @return                  The id of the snapshot, or {@link StorableList#NO_SNAPSHOT_ID} if it has none.
+     * @throws AthletiException If the snapshot is corrupted.
+     */
+    public static long decodeSnapshotId(ByteBuffer buffer) throws AthletiException {
+        try {
+            final ByteBuffer header = buffer.duplicate();
+            if (header.getInt() != MAGIC) {
+                throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_FORMAT);
+            }
+            return header.getInt() == VERSION ? header.getLong() : StorableList.NO_SNAPSHOT_ID;
+        } catch (BufferUnderflowException e) {
+            throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_FORMAT);
+        }
+    }
+
+    /**
+     * Decodes the activities from a binary snapshot.
+     *
+     * @param buffer            A buffer containing the snapshot.
+     * @return                  The activities decoded from the snapshot.
+     * @throws AthletiException If the snapshot is corrupted.
+     */
+    public static ArrayList<Activity> decode(ByteBuffer buffer) throws AthletiException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_FORMAT);
+            }
+            final int version = buffer.getInt();
+            if (version == VERSION) {
+                buffer.getLong();
+            } else if (version != VERSION_UNMARKED) {
+                throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_FORMAT);
+            }
+            final int size = buffer.getInt();
+            final String[] captions = new String[buffer.getInt()];
+            for (int i = 0; i < captions.length; i++) {
+                final byte[] caption = new byte[buffer.getInt()];
+                buffer.get(caption);
+                captions[i] = new String(caption, StandardCharsets.UTF_8);
+            }
+            final int[] captionColumn = new int[size];
+            final long[] startColumn = new long[size];
+            final int[] movingTimeColumn = new int[size];
+            final int[] distanceColumn = new int[size];
+            final int[] elevationColumn = new int[size];
+            final byte[] tagColumn = new byte[size];
+            final byte[] styleColumn = new byte[size];
+            buffer.asIntBuffer().get(captionColumn);
+            buffer.position(buffer.position() + size * Integer.BYTES);
+            buffer.asLongBuffer().get(startColumn);
+            buffer.position(buffer.position() + size * Long.BYTES);
+            buffer.asIntBuffer().get(movingTimeColumn).get(distanceColumn).get(elevationColumn);
+            buffer.position(buffer.position() + 3 * size * Integer.BYTES);
+            buffer.get(tagColumn).get(styleColumn);
+
+            final ArrayList<Activity> activities = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                checkActivity(startColumn[i], movingTimeColumn[i], tagColumn[i], styleColumn[i]);
+                activities.add(materialize(captions[captionColumn[i]], startColumn[i],
+                        movingTimeColumn[i], distanceColumn[i], elevationColumn[i], tagColumn[i], styleColumn[i]));
+            }
+            return activities;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                 | IllegalArgumentException e) {
+            throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_FORMAT);
+        }
+    }
+
+    /**
+     * Checks the columns of a decoded activity, so that it can be materialized.
+     */
+    private static void checkActivity(long start, int movingTime, byte tag, byte style) throws AthletiException {
+        if (tag < TAG_ACTIVITY || tag > TAG_SWIM) {
+            throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_INDICATOR);
+        }
+        final boolean isStyleValid = tag == TAG_SWIM
+                ? style >= 0 && style < Swim.SwimmingStyle.values().length
+                : style == NO_STYLE;
+        if (!isStyleValid || start < MIN_START || start > MAX_START || movingTime < 0
+                || movingTime >= SECONDS_PER_DAY) {
+            throw new AthletiException(Message.ACTIVITY_STORAGE_INVALID_FORMAT);
+        }
+    }
+
+    /**
+     * Creates an activity from its decoded columns.
+     */
+    private static Activity materialize(String caption, long start, int movingSeconds, int distance,
+            int elevationGain, byte tag, byte style) {
+        final LocalTime movingTime = LocalTime.ofSecondOfDay(movingSeconds);
+        final LocalDateTime startDateTime = LocalDateTime.ofEpochSecond(start, 0, ZoneOffset.UTC);
+        switch (tag) {
+        case TAG_RUN:
+            return new Run(caption, movingTime, distance, startDateTime, elevationGain);
+        case TAG_CYCLE:
+            return new Cycle(caption, movingTime, distance, startDateTime, elevationGain);
+        case TAG_SWIM:
+            return new Swim(caption, movingTime, distance, startDateTime, Swim.SwimmingStyle.values()[style]);
+        default:
+            return new Activity(caption, movingTime, distance, startDateTime);
+        }
+    }
+
+    /**
+     * Returns the tag of the sport of an activity.
+     */
+    private static byte getTag(Activity activity) {
+        if (activity instanceof Run) {
+            return TAG_RUN;
+        } else if (activity instanceof Cycle) {
+            return TAG_CYCLE;
+        } else if (activity instanceof Swim) {
+            return TAG_SWIM;
+        }
+        return TAG_ACTIVITY;
+    }
+
+    /**
+     * Returns the elevation gain of an activity, or 0 if its sport has none.
+     */
+    private static int getElevationGain(Activity activity) {
+        if (activity instanceof Run) {
+            return ((Run) activity).getElevationGain();
+        } else if (activity instanceof Cycle) {
+            return ((Cycle) activity).getElevationGain();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the ordinal of the swimming style of an activity, or {@link #NO_STYLE} if it is not a swim.
+     */
+    private static byte getStyle(Activity activity) {
+        return activity instanceof Swim ? (byte) ((Swim) activity).getStyle().ordinal() : NO_STYLE;
+    }
+}
@@ -3,11 +3,6 @@ package athleticli.data.diet;
 import athleticli.data.Data;
 import athleticli.data.Goal;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
-
-import athleticli.parser.Parameter;
-
 /**
  * Represents a diet goal.
  */
@@ -92,45 +87,7 @@ public abstract class DietGoal extends Goal {
     }
 
     private int updateCurrentValue(Data data) {
-        int currentValue = 0;
-        DietList diets = data.getDiets();
-        int numDays = getTimeSpan().getDays();
-        ArrayList<LocalDate> dates = getPastDates(numDays);
-        ArrayList<Diet> dietRecords;
-        for (LocalDate date : dates) {
-            dietRecords = diets.find(date);
-            for (Diet diet : dietRecords) {
-                switch (nutrient) {
-                case Parameter.NUTRIENTS_FAT:
-                    currentValue += diet.getFat();
-                    break;
-                case Parameter.NUTRIENTS_CALORIES:
-                    currentValue += diet.getCalories();
-                    break;
-                case Parameter.NUTRIENTS_PROTEIN:
-                    currentValue += diet.getProtein();
-                    break;
-                case Parameter.NUTRIENTS_CARB:
-                    currentValue += diet.getCarb();
-                    break;
-                default:
-                    currentValue += 0;
-
-                }
-            }
-        }
-        return currentValue;
-    }
-
-    private ArrayList<LocalDate> getPastDates(int numDays) {
-        ArrayList<LocalDate> pastDates = new ArrayList<>();
-        LocalDate currentDate = LocalDate.now();
-
-        for (int i = 0; i < numDays; i++) {
-            LocalDate pastDate = currentDate.minusDays(i);
-            pastDates.add(pastDate);
-        }
-        return pastDates;
+        return data.getDiets().getTotal(nutrient, getTimeSpan());
     }
 
     /**
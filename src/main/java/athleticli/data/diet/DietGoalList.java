@@ -114,10 +114,10 @@ public class DietGoalList extends StorableList<DietGoal> {
      * @return The diet goal parsed from the string.
      */
     @Override
-    public DietGoal parse(String s) throws AthletiException {
+    public DietGoal parse(CharSequence s) throws AthletiException {
         try {
             DietGoal dietGoal = null;
-            String[] dietGoalDetails = s.split("\\s+");
+            String[] dietGoalDetails = s.toString().split("\\s+");
             String dietGoalTimeSpanString = dietGoalDetails[1];
             String dietGoalNutrientString = dietGoalDetails[2];
             String dietGoalTargetValueString = dietGoalDetails[3];
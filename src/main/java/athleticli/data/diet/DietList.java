@@ -1,6 +1,8 @@
 package athleticli.data.diet;
 
+import athleticli.data.DateIndex;
 import athleticli.data.Findable;
+import athleticli.data.Goal;
 import athleticli.data.StorableList;
 import athleticli.exceptions.AthletiException;
 import athleticli.parser.Parameter;
@@ -16,11 +18,16 @@ import static athleticli.common.Config.PATH_DIET;
  * Represents a list of diets.
  */
 public class DietList extends StorableList<Diet> implements Findable {
+    private final DateIndex<Diet> dateIndex = new DateIndex<>(diet -> diet.getDateTime().toLocalDate());
+    private final DietRollup rollup = new DietRollup();
+
     /**
      * Constructs a diet list.
      */
     public DietList() {
         super(PATH_DIET);
+        addIndex(dateIndex);
+        addIndex(rollup);
     }
 
     /**
@@ -48,13 +55,30 @@ public class DietList extends StorableList<Diet> implements Findable {
      */
     @Override
     public ArrayList<Diet> find(LocalDate date) {
-        ArrayList<Diet> result = new ArrayList<>();
-        for (Diet diet : this) {
-            if (diet.getDateTime().toLocalDate().equals(date)) {
-                result.add(diet);
-            }
-        }
-        return result;
+        return dateIndex.find(date);
+    }
+
+    /**
+     * Returns a list of diets from the start date to the end date, both inclusive.
+     *
+     * @param startDate The first date to be matched.
+     * @param endDate The last date to be matched.
+     * @return A list of diets within the range of dates.
+     */
+    @Override
+    public ArrayList<Diet> find(LocalDate startDate, LocalDate endDate) {
+        return dateIndex.find(startDate, endDate);
+    }
+
+    /**
+     * Returns the total intake of a nutrient within the time span.
+     *
+     * @param nutrient The nutrient to be summed.
+     * @param timeSpan The time span to be matched.
+     * @return The total intake of the nutrient, or 0 if the nutrient is unknown.
+     */
+    public int getTotal(String nutrient, Goal.TimeSpan timeSpan) {
+        return (int) rollup.getTotal(nutrient, Goal.getStartDate(timeSpan), LocalDate.now());
     }
 
     /**
@@ -64,7 +88,7 @@ public class DietList extends StorableList<Diet> implements Findable {
      * @return The diet parsed from the string.
      */
     @Override
-    public Diet parse(String s) throws AthletiException {
+    public Diet parse(CharSequence s) throws AthletiException {
         return DietParser.parseDiet(s);
     }
 
@@ -0,0 +1,94 @@
+package athleticli.data.diet;
+
+import java.time.LocalDate;
+import java.util.IdentityHashMap;
+
+import athleticli.data.DailyTotals;
+import athleticli.data.ListIndex;
+import athleticli.parser.Parameter;
+
+/**
+ * Keeps the daily intake of each nutrient, so that the progress of diet goals can be computed
+ * without scanning the diet list.
+ */
+public class DietRollup implements ListIndex<Diet> {
+    private final DailyTotals calories = new DailyTotals();
+    private final DailyTotals protein = new DailyTotals();
+    private final DailyTotals carb = new DailyTotals();
+    private final DailyTotals fat = new DailyTotals();
+    /* what was added for each diet, since diets may be edited in place before being re-indexed */
+    private final IdentityHashMap<Diet, Contribution> contributions = new IdentityHashMap<>();
+
+    /**
+     * Represents the values a diet added to the totals.
+     */
+    private static class Contribution {
+        private final LocalDate date;
+        private final int calories;
+        private final int protein;
+        private final int carb;
+        private final int fat;
+
+        Contribution(Diet diet) {
+            date = diet.getDateTime().toLocalDate();
+            calories = diet.getCalories();
+            protein = diet.getProtein();
+            carb = diet.getCarb();
+            fat = diet.getFat();
+        }
+    }
+
+    @Override
+    public void add(Diet diet) {
+        final Contribution contribution = new Contribution(diet);
+        contributions.put(diet, contribution);
+        apply(contribution, 1);
+    }
+
+    @Override
+    public void remove(Diet diet) {
+        final Contribution contribution = contributions.remove(diet);
+        if (contribution != null) {
+            apply(contribution, -1);
+        }
+    }
+
+    @Override
+    public void clear() {
+        calories.clear();
+        protein.clear();
+        carb.clear();
+        fat.clear();
+        contributions.clear();
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        calories.add(contribution.date, (long) sign * contribution.calories);
+        protein.add(contribution.date, (long) sign * contribution.protein);
+        carb.add(contribution.date, (long) sign * contribution.carb);
+        fat.add(contribution.date, (long) sign * contribution.fat);
+    }
+
+    /**
+     * Returns the total intake of a nutrient within the range of dates.
+     *
+     * @param nutrient  The nutrient to be summed.
+     * @param startDate The first date to be matched.
+     * @param endDate   The last date to be matched.
+     * @return          The total intake of the nutrient, or 0 if the nutrient is unknown.
+     */
+    public long getTotal(String nutrient, LocalDate startDate, LocalDate endDate) {
+        switch (nutrient) {
+        case Parameter.NUTRIENTS_CALORIES:
+            return calories.sum(startDate, endDate);
+        case Parameter.NUTRIENTS_PROTEIN:
+            return protein.sum(startDate, endDate);
+        case Parameter.NUTRIENTS_CARB:
+            return carb.sum(startDate, endDate);
+        case Parameter.NUTRIENTS_FAT:
+            return fat.sum(startDate, endDate);
+        default:
+            return 0;
+        }
+    }
+}
@@ -26,8 +26,8 @@ public class SleepGoalList extends StorableList<SleepGoal> {
      * @return The sleep goal parsed from the string.
      */
     @Override
-    public SleepGoal parse(String arguments) throws AthletiException {
-        return SleepParser.parseSleepGoal(arguments.toLowerCase());
+    public SleepGoal parse(CharSequence arguments) throws AthletiException {
+        return SleepParser.parseSleepGoal(arguments.toString().toLowerCase());
     }
 
     /**
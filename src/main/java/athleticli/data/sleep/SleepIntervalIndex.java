@@ -0,0 +1,200 @@
+package athleticli.data.sleep;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+import athleticli.data.ListIndex;
+
+/**
+ * Indexes sleeps by their time intervals, so that the sleeps overlapping a time window can be found
+ * without scanning the whole list.
+ * The sleeps are held in a treap ordered by start time, where every node also keeps the latest end time in its
+ * subtree. Subtrees ending before the window are skipped, and so are subtrees starting after it, so that
+ * inserting, removing and checking for an overlap take <code>O(log n)</code> expected time.
+ */
+public class SleepIntervalIndex implements ListIndex<Sleep> {
+    private final Random random = new Random();
+    private final IdentityHashMap<Sleep, Node> nodes = new IdentityHashMap<>();
+    private Node root;
+    private long nextId = 0;
+
+    /**
+     * Represents a sleep in the treap, with the interval it was added with.
+     */
+    private static class Node {
+        private final Sleep sleep;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        /* breaks ties between sleeps starting at the same time */
+        private final long id;
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Sleep sleep, long id, int priority) {
+            this.sleep = sleep;
+            this.start = sleep.getStartDateTime();
+            this.end = sleep.getEndDateTime();
+            this.id = id;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        boolean isBefore(Node other) {
+            final int comparison = start.compareTo(other.start);
+            return comparison < 0 || comparison == 0 && id < other.id;
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+
+    @Override
+    public void add(Sleep sleep) {
+        final Node node = new Node(sleep, nextId++, random.nextInt());
+        nodes.put(sleep, node);
+        root = insert(root, node);
+    }
+
+    @Override
+    public void remove(Sleep sleep) {
+        final Node node = nodes.remove(sleep);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Returns whether any sleep overlaps the time window.
+     *
+     * @param start The start of the time window, exclusive.
+     * @param end   The end of the time window, exclusive.
+     * @return      Whether any sleep starts before the window ends and ends after the window starts.
+     */
+    public boolean isOverlapping(LocalDateTime start, LocalDateTime end) {
+        Node node = root;
+        while (node != null && node.maxEnd.isAfter(start)) {
+            if (node.start.isBefore(end) && node.end.isAfter(start)) {
+                return true;
+            }
+            /* the left subtree ends after the window starts if it can overlap, otherwise only the right can */
+            if (node.left != null && node.left.maxEnd.isAfter(start)) {
+                node = node.left;
+            } else if (node.start.isBefore(end)) {
+                node = node.right;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the sleeps overlapping the time window, latest first.
+     *
+     * @param start The start of the time window, exclusive.
+     * @param end   The end of the time window, exclusive.
+     * @return      The sleeps starting before the window ends and ending after the window starts.
+     */
+    public ArrayList<Sleep> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        final ArrayList<Sleep> result = new ArrayList<>();
+        collectOverlapping(root, start, end, result);
+        return result;
+    }
+
+    private void collectOverlapping(Node node, LocalDateTime start, LocalDateTime end, ArrayList<Sleep> result) {
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+        if (node.start.isBefore(end)) {
+            collectOverlapping(node.right, start, end, result);
+            if (node.end.isAfter(start)) {
+                result.add(node.sleep);
+            }
+        }
+        collectOverlapping(node.left, start, end, result);
+    }
+
+    private Node insert(Node subtree, Node node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private Node delete(Node subtree, Node node) {
+        if (subtree == node) {
+            return merge(node.left, node.right);
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private Node rotateRight(Node node) {
+        final Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private Node rotateLeft(Node node) {
+        final Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+}
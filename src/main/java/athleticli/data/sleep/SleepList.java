@@ -3,10 +3,12 @@ package athleticli.data.sleep;
 import static athleticli.common.Config.PATH_SLEEP;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.time.Duration;
 
+import athleticli.data.DateIndex;
 import athleticli.data.Findable;
 import athleticli.data.StorableList;
 import athleticli.data.Goal;
@@ -18,11 +20,16 @@ import athleticli.parser.Parameter;
  * Represents a list of sleep records.
  */
 public class SleepList extends StorableList<Sleep> implements Findable<Sleep> {
+    private final DateIndex<Sleep> dateIndex = new DateIndex<>(sleep -> sleep.getStartDateTime().toLocalDate());
+    private final SleepIntervalIndex intervalIndex = new SleepIntervalIndex();
+
     /**
-     * Constructs a sleep list with its storage path.
+     * Constructs a sleep list with its storage path, which keeps the latest sleep first.
      */
     public SleepList() {
-        super(PATH_SLEEP);
+        super(PATH_SLEEP, Comparator.comparing(Sleep::getEndDateTime).reversed());
+        addIndex(dateIndex);
+        addIndex(intervalIndex);
     }
 
     /**
@@ -33,20 +40,40 @@ public class SleepList extends StorableList<Sleep> implements Findable<Sleep> {
      */
     @Override
     public ArrayList<Sleep> find(LocalDate date) {
-        ArrayList<Sleep> result = new ArrayList<>();
-        for (Sleep sleep : this) {
-            if (sleep.getStartDateTime().toLocalDate().equals(date)) {
-                result.add(sleep);
-            }
-        }
-        return result;
+        return dateIndex.find(date);
     }
 
     /**
-     * Sorts the sleep entries in the list by date.
+     * Returns a list of sleeps from the start date to the end date, both inclusive.
+     *
+     * @param startDate The first date to be matched.
+     * @param endDate The last date to be matched.
+     * @return A list of sleeps within the range of dates.
+     */
+    @Override
+    public ArrayList<Sleep> find(LocalDate startDate, LocalDate endDate) {
+        return dateIndex.find(startDate, endDate);
+    }
+
+    /**
+     * Returns a list of sleeps overlapping the time window, latest first.
+     *
+     * @param startDateTime The start of the time window.
+     * @param endDateTime The end of the time window.
+     * @return A list of sleeps starting before the window ends and ending after it starts.
+     */
+    public ArrayList<Sleep> findOverlapping(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return intervalIndex.findOverlapping(startDateTime, endDateTime);
+    }
+
+    /**
+     * Returns whether any sleep in the list overlaps the sleep.
+     *
+     * @param sleep The sleep to be checked.
+     * @return Whether any sleep starts before the sleep ends and ends after it starts.
      */
-    public void sort() {
-        this.sort(Comparator.comparing(Sleep::getEndDateTime).reversed());
+    public boolean isOverlapping(Sleep sleep) {
+        return intervalIndex.isOverlapping(sleep.getStartDateTime(), sleep.getEndDateTime());
     }
 
     /**
@@ -88,7 +115,7 @@ public class SleepList extends StorableList<Sleep> implements Findable<Sleep> {
      * @return The sleep parsed from the string.
      */
     @Override
-    public Sleep parse(String sleep) throws AthletiException {
+    public Sleep parse(CharSequence sleep) throws AthletiException {
         return SleepParser.parseSleep(sleep);
     }
 
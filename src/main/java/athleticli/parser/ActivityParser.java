@@ -18,6 +18,13 @@ import static athleticli.parser.Parser.getValueForMarker;
 
 public class ActivityParser {
     //@@author  AlWo223
+    private static final ThreadLocal<ArgumentTokenizer> activityTokenizer = ThreadLocal.withInitial(() ->
+            new ArgumentTokenizer(Parameter.CAPTION_SEPARATOR, Parameter.DURATION_SEPARATOR,
+                    Parameter.DISTANCE_SEPARATOR, Parameter.DATETIME_SEPARATOR, Parameter.ELEVATION_SEPARATOR,
+                    Parameter.SWIMMING_STYLE_SEPARATOR));
+    private static final ThreadLocal<ArgumentTokenizer> activityGoalTokenizer = ThreadLocal.withInitial(() ->
+            new ArgumentTokenizer(Parameter.SPORT_SEPARATOR, Parameter.TYPE_SEPARATOR, Parameter.PERIOD_SEPARATOR,
+                    Parameter.TARGET_SEPARATOR));
     /**
      * Parses the index of an activity from a string input.
      *
@@ -32,7 +39,7 @@ public class ActivityParser {
         }
 
         try {
-            return Integer.parseInt(commandArgsTrimmed);
+            return Parser.parseInt(commandArgsTrimmed);
         } catch (NumberFormatException e) {
             throw new AthletiException(Message.MESSAGE_ACTIVITY_INDEX_INVALID);
         }
@@ -46,12 +53,12 @@ public class ActivityParser {
      * @throws AthletiException If the input format is invalid.
      */
     public static ActivityChanges parseActivityEdit(String arguments) throws AthletiException {
-        String[] parts = arguments.split("(?<=\\d)(?=\\D)", 2);
-        if (parts.length < 2) {
+        final int indexEnd = Parser.findIndexEnd(arguments);
+        if (indexEnd == arguments.length()) {
             throw new AthletiException(Message.MESSAGE_ACTIVITY_EDIT_INVALID);
         }
 
-        return parseActivityChanges(parts[1]);
+        return parseActivityChanges(arguments.substring(indexEnd));
     }
 
     /**
@@ -160,11 +167,12 @@ public class ActivityParser {
      */
     private static void parseChangeArguments(ActivityChanges activityChanges, String arguments, String... separators)
             throws AthletiException {
+        final ArgumentTokenizer tokenizer = activityTokenizer.get().tokenize(arguments);
         int numChanges = 0;
         int previousIndex = -1;
         for (int i = 0; i < separators.length; i++) {
             String separator = separators[i];
-            int currentSeparatorStartIndex = arguments.indexOf(separator);
+            int currentSeparatorStartIndex = tokenizer.indexOf(separator);
 
             if (currentSeparatorStartIndex != -1) {
                 if (previousIndex > currentSeparatorStartIndex) {
@@ -172,7 +180,8 @@ public class ActivityParser {
                 }
 
                 previousIndex = currentSeparatorStartIndex;
-                int currentEndIndex = findNextSeparatorIndex(arguments, currentSeparatorStartIndex, separators, i);
+                int currentEndIndex =
+                        findNextSeparatorIndex(tokenizer, arguments, currentSeparatorStartIndex, separators, i);
 
                 String segment =
                         arguments.substring(currentSeparatorStartIndex + separator.length(), currentEndIndex).trim();
@@ -189,17 +198,18 @@ public class ActivityParser {
     /**
      * Finds the index of the next separator in the arguments String.
      *
+     * @param tokenizer The tokenizer holding the occurrences of the separators in the arguments.
      * @param arguments Raw user input containing the arguments.
      * @param startIndex The String position index to start searching from.
      * @param separators List of separators to search for.
      * @param currentSeparatorIndex Index of the current separator, refers to the list of separators.
      * @return The String position index of the next separator.
      */
-    private static int findNextSeparatorIndex(String arguments, int startIndex, String[] separators,
-                                              int currentSeparatorIndex) {
+    private static int findNextSeparatorIndex(ArgumentTokenizer tokenizer, CharSequence arguments, int startIndex,
+                                              String[] separators, int currentSeparatorIndex) {
         int endIndex = arguments.length();
         for (int j = currentSeparatorIndex + 1; j < separators.length; j++) {
-            int nextIndex = arguments.indexOf(separators[j],
+            int nextIndex = tokenizer.indexOf(separators[j],
                     startIndex + separators[currentSeparatorIndex].length());
             if (nextIndex != -1) {
                 endIndex = nextIndex;
@@ -217,12 +227,12 @@ public class ActivityParser {
      * @param separator         The separator used to identify the segment.
      * @throws AthletiException If the input is invalid or empty.
      */
-    public static void parseSegment(ActivityChanges activityChanges, String segment, String separator)
+    public static void parseSegment(ActivityChanges activityChanges, CharSequence segment, String separator)
             throws AthletiException {
         switch (separator) {
         case Parameter.CAPTION_SEPARATOR:
             checkEmptyCaptionArgument(segment);
-            activityChanges.setCaption(segment);
+            activityChanges.setCaption(segment.toString());
             break;
         case Parameter.DURATION_SEPARATOR:
             checkEmptyDurationArgument(segment);
@@ -257,11 +267,11 @@ public class ActivityParser {
      * @throws AthletiException If the input format is invalid.
      */
     public static int parseActivityEditIndex(String arguments) throws AthletiException {
-        String[] parts = arguments.split("(?<=\\d)(?=\\D)", 2);
-        if (parts.length == 0 || parts[0].trim().isEmpty()) {
+        final String index = arguments.substring(0, Parser.findIndexEnd(arguments));
+        if (index.trim().isEmpty()) {
             throw new AthletiException(Message.MESSAGE_ACTIVITY_EDIT_INVALID);
         }
-        return parseActivityIndex(parts[0]);
+        return parseActivityIndex(index);
     }
 
     /**
@@ -281,7 +291,7 @@ public class ActivityParser {
      * @return The parsed LocalTime duration.
      * @throws AthletiException If the input is not an integer.
      */
-    public static LocalTime parseDuration(String duration) throws AthletiException {
+    public static LocalTime parseDuration(CharSequence duration) throws AthletiException {
         LocalTime durationParsed;
         try {
             durationParsed = LocalTime.parse(duration);
@@ -298,11 +308,18 @@ public class ActivityParser {
      * @return The parsed Integer distance.
      * @throws AthletiException If the input is not an integer.
      */
-    public static int parseDistance(String distance) throws AthletiException {
+    public static int parseDistance(CharSequence distance) throws AthletiException {
         final int distanceUpperBoundary = 1000000;
+        final int digitsParsed = Parser.parseDigits(distance);
+        if (digitsParsed != Parser.NOT_DIGITS) {
+            if (digitsParsed > distanceUpperBoundary) {
+                throw new AthletiException(Message.MESSAGE_DISTANCE_TOO_LARGE);
+            }
+            return digitsParsed;
+        }
         BigInteger distanceParsed;
         try {
-            distanceParsed = new BigInteger(distance);
+            distanceParsed = new BigInteger(distance.toString());
         } catch (NumberFormatException e) {
             throw new AthletiException(Message.MESSAGE_DISTANCE_INVALID);
         }
@@ -321,8 +338,8 @@ public class ActivityParser {
      * @param caption  The caption of the activity.
      * @throws AthletiException If the argument is empty.
      */
-    public static void checkEmptyCaptionArgument(String caption) throws AthletiException {
-        if (caption.isEmpty()) {
+    public static void checkEmptyCaptionArgument(CharSequence caption) throws AthletiException {
+        if (caption.length() == 0) {
             throw new AthletiException(Message.MESSAGE_CAPTION_EMPTY);
         }
     }
@@ -333,8 +350,8 @@ public class ActivityParser {
      * @param duration  The caption of the activity.
      * @throws AthletiException If the argument is empty.
      */
-    public static void checkEmptyDurationArgument(String duration) throws AthletiException {
-        if (duration.isEmpty()) {
+    public static void checkEmptyDurationArgument(CharSequence duration) throws AthletiException {
+        if (duration.length() == 0) {
             throw new AthletiException(Message.MESSAGE_DURATION_EMPTY);
         }
     }
@@ -345,8 +362,8 @@ public class ActivityParser {
      * @param distance  The distance of the activity.
      * @throws AthletiException If the argument is empty.
      */
-    public static void checkEmptyDistanceArgument(String distance) throws AthletiException {
-        if (distance.isEmpty()) {
+    public static void checkEmptyDistanceArgument(CharSequence distance) throws AthletiException {
+        if (distance.length() == 0) {
             throw new AthletiException(Message.MESSAGE_DISTANCE_EMPTY);
         }
     }
@@ -357,14 +374,14 @@ public class ActivityParser {
      * @param elevation  The elevation of the cycle or run.
      * @throws AthletiException If the argument is empty.
      */
-    public static void checkEmptyElevationArgument(String elevation) throws AthletiException {
-        if (elevation.isEmpty()) {
+    public static void checkEmptyElevationArgument(CharSequence elevation) throws AthletiException {
+        if (elevation.length() == 0) {
             throw new AthletiException(Message.MESSAGE_ELEVATION_EMPTY);
         }
     }
 
-    public static void checkEmptySwimmingStyleArgument(String swimmingStyle) throws AthletiException {
-        if (swimmingStyle.isEmpty()) {
+    public static void checkEmptySwimmingStyleArgument(CharSequence swimmingStyle) throws AthletiException {
+        if (swimmingStyle.length() == 0) {
             throw new AthletiException(Message.MESSAGE_SWIMMINGSTYLE_EMPTY);
         }
     }
@@ -375,8 +392,8 @@ public class ActivityParser {
      * @param dateTime The datetime of the activity.
      * @throws AthletiException If the argument is empty.
      */
-    public static void checkEmptyDateTimeArgument(String dateTime) throws AthletiException {
-        if (dateTime.isEmpty()) {
+    public static void checkEmptyDateTimeArgument(CharSequence dateTime) throws AthletiException {
+        if (dateTime.length() == 0) {
             throw new AthletiException(Message.MESSAGE_DATETIME_EMPTY);
         }
     }
@@ -388,9 +405,9 @@ public class ActivityParser {
      * @return An object representing the swimming style.
      * @throws AthletiException If the input format is invalid.
      */
-    public static Swim.SwimmingStyle parseSwimmingStyle(String swimmingStyle) throws AthletiException {
+    public static Swim.SwimmingStyle parseSwimmingStyle(CharSequence swimmingStyle) throws AthletiException {
         try {
-            return Swim.SwimmingStyle.valueOf(swimmingStyle.toUpperCase());
+            return Parser.parseEnum(Swim.SwimmingStyle.class, swimmingStyle);
         } catch (IllegalArgumentException e) {
             throw new AthletiException(Message.MESSAGE_SWIMMINGSTYLE_INVALID);
         }
@@ -404,10 +421,11 @@ public class ActivityParser {
      * @throws AthletiException If the input format is invalid.
      */
     public static ActivityGoal parseActivityGoal(String commandArgs) throws AthletiException {
-        final int sportIndex = commandArgs.indexOf(Parameter.SPORT_SEPARATOR);
-        final int typeIndex = commandArgs.indexOf(Parameter.TYPE_SEPARATOR);
-        final int periodIndex = commandArgs.indexOf(Parameter.PERIOD_SEPARATOR);
-        final int targetIndex = commandArgs.indexOf(Parameter.TARGET_SEPARATOR);
+        final ArgumentTokenizer tokenizer = activityGoalTokenizer.get().tokenize(commandArgs);
+        final int sportIndex = tokenizer.indexOf(Parameter.SPORT_SEPARATOR);
+        final int typeIndex = tokenizer.indexOf(Parameter.TYPE_SEPARATOR);
+        final int periodIndex = tokenizer.indexOf(Parameter.PERIOD_SEPARATOR);
+        final int targetIndex = tokenizer.indexOf(Parameter.TARGET_SEPARATOR);
 
         checkMissingActivityGoalArguments(sportIndex, typeIndex, periodIndex, targetIndex);
 
@@ -440,15 +458,16 @@ public class ActivityParser {
      * @throws AthletiException If the input format is invalid.
      */
     public static ActivityGoal parseDeleteActivityGoal(String commandArgs) throws AthletiException {
-        final String sport = getValueForMarker(commandArgs, Parameter.SPORT_SEPARATOR);
+        final ArgumentTokenizer tokenizer = activityGoalTokenizer.get().tokenize(commandArgs);
+        final String sport = getValueForMarker(tokenizer, Parameter.SPORT_SEPARATOR);
         if (sport.isEmpty()) {
             throw new AthletiException(Message.MESSAGE_ACTIVITYGOAL_SPORT_MISSING);
         }
-        final String type = getValueForMarker(commandArgs, Parameter.TYPE_SEPARATOR);
+        final String type = getValueForMarker(tokenizer, Parameter.TYPE_SEPARATOR);
         if (type.isEmpty()) {
             throw new AthletiException(Message.MESSAGE_ACTIVITYGOAL_TYPE_MISSING);
         }
-        final String period = getValueForMarker(commandArgs, Parameter.PERIOD_SEPARATOR);
+        final String period = getValueForMarker(tokenizer, Parameter.PERIOD_SEPARATOR);
         if (period.isEmpty()) {
             throw new AthletiException(Message.MESSAGE_ACTIVITYGOAL_PERIOD_MISSING);
         }
@@ -506,11 +525,18 @@ public class ActivityParser {
      * @return The parsed Integer elevation.
      * @throws AthletiException If the input is not an integer.
      */
-    public static int parseElevation(String elevation) throws AthletiException {
+    public static int parseElevation(CharSequence elevation) throws AthletiException {
         final int elevationUpperBoundary = 10000;
+        final int digitsParsed = Parser.parseDigits(elevation);
+        if (digitsParsed != Parser.NOT_DIGITS) {
+            if (digitsParsed > elevationUpperBoundary) {
+                throw new AthletiException(Message.MESSAGE_ELEVATION_TOO_LARGE);
+            }
+            return digitsParsed;
+        }
         BigInteger elevationParsed;
         try {
-            elevationParsed = new BigInteger(elevation);
+            elevationParsed = new BigInteger(elevation.toString());
         } catch (NumberFormatException e) {
             throw new AthletiException(Message.MESSAGE_ELEVATION_INVALID);
         }
@@ -558,6 +584,10 @@ public class ActivityParser {
      * @throws AthletiException If the input is not a positive number.
      */
     public static int parseTarget(String target) throws AthletiException {
+        final int digitsParsed = Parser.parseDigits(target);
+        if (digitsParsed != Parser.NOT_DIGITS) {
+            return digitsParsed;
+        }
         BigInteger targetParsed;
         try {
             targetParsed = new BigInteger(target);
@@ -580,22 +610,23 @@ public class ActivityParser {
      * @param arguments The raw user input containing the arguments.
      * @throws AthletiException If the input format is invalid.
      */
-    public static void parseActivityArguments(ActivityChanges activityChanges, String arguments,
+    public static void parseActivityArguments(ActivityChanges activityChanges, CharSequence arguments,
                                                          String... separators) throws AthletiException {
-        int firstSeparatorIndex = arguments.indexOf(separators[0]);
+        final ArgumentTokenizer tokenizer = activityTokenizer.get().tokenize(arguments);
+        int firstSeparatorIndex = tokenizer.indexOf(separators[0]);
         if (firstSeparatorIndex == -1) {
             throw new AthletiException(Message.MESSAGE_DURATION_MISSING);
         }
-        final String caption = arguments.substring(0, firstSeparatorIndex).trim();
-        if (caption.isEmpty()) {
+        final CharSequence caption = Parser.trim(arguments.subSequence(0, firstSeparatorIndex));
+        if (caption.length() == 0) {
             throw new AthletiException(Message.MESSAGE_CAPTION_EMPTY);
         }
-        activityChanges.setCaption(caption);
+        activityChanges.setCaption(caption.toString());
 
         int previousIndex = -1;
         for (int i = 0; i < separators.length; i++) {
             String separator = separators[i];
-            int currentSeparatorStartIndex = arguments.indexOf(separator);
+            int currentSeparatorStartIndex = tokenizer.indexOf(separator);
             checkMissingActivityArgument(currentSeparatorStartIndex, separator);
 
             if (previousIndex > currentSeparatorStartIndex) {
@@ -603,10 +634,11 @@ public class ActivityParser {
             }
             previousIndex = currentSeparatorStartIndex;
 
-            int currentEndIndex = findNextSeparatorIndex(arguments, currentSeparatorStartIndex, separators, i);
+            int currentEndIndex =
+                    findNextSeparatorIndex(tokenizer, arguments, currentSeparatorStartIndex, separators, i);
 
-            String segment =
-                    arguments.substring(currentSeparatorStartIndex + separator.length(), currentEndIndex).trim();
+            CharSequence segment = Parser.trim(
+                    arguments.subSequence(currentSeparatorStartIndex + separator.length(), currentEndIndex));
             parseSegment(activityChanges, segment, separator);
         }
 
@@ -645,7 +677,7 @@ public class ActivityParser {
      * @return An object representing the activity.
      * @throws AthletiException If the input format is invalid.
      */
-    public static Activity parseRunCycle(String arguments, boolean isRun) throws AthletiException {
+    public static Activity parseRunCycle(CharSequence arguments, boolean isRun) throws AthletiException {
         ActivityChanges activityChanges = new ActivityChanges();
         parseActivityArguments(activityChanges, arguments,
                 Parameter.DURATION_SEPARATOR, Parameter.DISTANCE_SEPARATOR,
@@ -669,7 +701,7 @@ public class ActivityParser {
      * @return An object representing the activity.
      * @throws AthletiException If the input format is invalid.
      */
-    public static Activity parseActivity(String arguments) throws AthletiException {
+    public static Activity parseActivity(CharSequence arguments) throws AthletiException {
         ActivityChanges activityChanges = new ActivityChanges();
         parseActivityArguments(activityChanges, arguments,
                 Parameter.DURATION_SEPARATOR, Parameter.DISTANCE_SEPARATOR,
@@ -685,7 +717,7 @@ public class ActivityParser {
      * @return activity         An object representing the activity.
      * @throws AthletiException If the input format is invalid.
      */
-    public static Activity parseSwim(String arguments) throws AthletiException {
+    public static Activity parseSwim(CharSequence arguments) throws AthletiException {
         ActivityChanges activityChanges = new ActivityChanges();
         parseActivityArguments(activityChanges, arguments,
                 Parameter.DURATION_SEPARATOR, Parameter.DISTANCE_SEPARATOR,
@@ -0,0 +1,222 @@
+package athleticli.parser;
+
+import java.util.Arrays;
+
+/**
+ * Finds all occurrences of a fixed set of markers, such as <code>duration/</code>, in the arguments of a command
+ * with a single scan, so that the parsers do not search the arguments once per marker.
+ * The occurrences are recorded as the positions of the markers, ordered by position, in arrays that are reused
+ * by the next call to {@link #tokenize(CharSequence)}. Like <code>String.indexOf</code>, a marker is found anywhere
+ * in the arguments, even within a word. The arguments may be any <code>CharSequence</code>, e.g., a line of a
+ * mapped file, and are not copied. A tokenizer is not thread-safe, so each thread should have its own.
+ */
+public class ArgumentTokenizer {
+    private static final int INITIAL_CAPACITY = 8;
+    private final String[] markers;
+    private CharSequence arguments = "";
+    private int[] markerIds = new int[INITIAL_CAPACITY];
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Constructs a tokenizer.
+     *
+     * @param markers The non-empty markers to be found.
+     */
+    public ArgumentTokenizer(String... markers) {
+        assert Arrays.stream(markers).noneMatch(String::isEmpty) : "Markers should not be empty";
+        this.markers = markers.clone();
+    }
+
+    /**
+     * Finds all occurrences of the markers in the arguments, replacing the occurrences found before.
+     * Each marker is only compared where the arguments contain its last character, which is usually
+     * <code>/</code>, so the scan is linear in the length of the arguments.
+     *
+     * @param arguments The arguments of a command.
+     * @return          This tokenizer.
+     */
+    public ArgumentTokenizer tokenize(CharSequence arguments) {
+        this.arguments = arguments;
+        size = 0;
+        for (int end = 0; end < arguments.length(); end++) {
+            final char c = arguments.charAt(end);
+            for (int id = 0; id < markers.length; id++) {
+                final String marker = markers[id];
+                final int start = end - marker.length() + 1;
+                if (marker.charAt(marker.length() - 1) == c && Parser.startsWith(arguments, marker, start)) {
+                    record(id, start);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Records an occurrence, keeping the occurrences ordered by position.
+     * Occurrences are found in the order of their ends, so a shorter marker may have to be moved
+     * before a longer one ending at the same place.
+     */
+    private void record(int id, int start) {
+        if (size == starts.length) {
+            markerIds = Arrays.copyOf(markerIds, size * 2);
+            starts = Arrays.copyOf(starts, size * 2);
+        }
+        int i = size;
+        while (i > 0 && starts[i - 1] > start) {
+            markerIds[i] = markerIds[i - 1];
+            starts[i] = starts[i - 1];
+            i--;
+        }
+        markerIds[i] = id;
+        starts[i] = start;
+        size++;
+    }
+
+    /**
+     * Returns the number of occurrences found.
+     *
+     * @return The number of occurrences of all markers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the marker of an occurrence.
+     *
+     * @param i The index of the occurrence, ordered by position.
+     * @return  The marker found.
+     */
+    public String getMarker(int i) {
+        assert i >= 0 && i < size : "Occurrence index should be within range";
+        return markers[markerIds[i]];
+    }
+
+    /**
+     * Returns the position of an occurrence.
+     *
+     * @param i The index of the occurrence, ordered by position.
+     * @return  The position of the marker in the arguments.
+     */
+    public int getStart(int i) {
+        assert i >= 0 && i < size : "Occurrence index should be within range";
+        return starts[i];
+    }
+
+    /**
+     * Returns the position of the first occurrence of a marker, like <code>String.indexOf</code>.
+     *
+     * @param marker    One of the markers of this tokenizer.
+     * @return          The position of the marker, or -1 if it is not found.
+     */
+    public int indexOf(String marker) {
+        return indexOf(marker, 0);
+    }
+
+    /**
+     * Returns the position of the first occurrence of a marker at or after a position,
+     * like <code>String.indexOf</code>.
+     *
+     * @param marker    One of the markers of this tokenizer.
+     * @param from      The position to start from.
+     * @return          The position of the marker, or -1 if it is not found.
+     */
+    public int indexOf(String marker, int from) {
+        final int id = getId(marker);
+        for (int i = 0; i < size; i++) {
+            if (markerIds[i] == id && starts[i] >= from) {
+                return starts[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the last occurrence of a marker, like <code>String.lastIndexOf</code>.
+     *
+     * @param marker    One of the markers of this tokenizer.
+     * @return          The position of the marker, or -1 if it is not found.
+     */
+    public int lastIndexOf(String marker) {
+        final int id = getId(marker);
+        for (int i = size - 1; i >= 0; i--) {
+            if (markerIds[i] == id) {
+                return starts[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns up to a number of words directly following the first occurrence of a marker
+     * that is not followed by a whitespace, joined by single spaces.
+     *
+     * @param marker    One of the markers of this tokenizer.
+     * @param maxCount  The maximum number of words.
+     * @return          The words, or an empty string if the marker is not found.
+     */
+    public String getWords(String marker, int maxCount) {
+        return getWordSequence(marker, maxCount).toString();
+    }
+
+    /**
+     * Returns the same words as {@link #getWords(String, int)}, as a subsequence of the arguments if they are
+     * already separated by single spaces, so that they are not copied.
+     *
+     * @param marker    One of the markers of this tokenizer.
+     * @param maxCount  The maximum number of words.
+     * @return          The words, or an empty sequence if the marker is not found.
+     */
+    public CharSequence getWordSequence(String marker, int maxCount) {
+        final int id = getId(marker);
+        for (int i = 0; i < size; i++) {
+            final int start = starts[i] + marker.length();
+            if (markerIds[i] == id && start < arguments.length() && !Parser.isWhitespace(arguments.charAt(start))) {
+                return getWordsFrom(start, maxCount);
+            }
+        }
+        return "";
+    }
+
+    private CharSequence getWordsFrom(int start, int maxCount) {
+        /* only created if the words are separated by anything other than a single space */
+        StringBuilder words = null;
+        int end = getWordEnd(start);
+        for (int count = 1; count < maxCount; count++) {
+            int next = end;
+            while (next < arguments.length() && Parser.isWhitespace(arguments.charAt(next))) {
+                next++;
+            }
+            if (next == end || next == arguments.length()) {
+                break;
+            }
+            if (words == null && (next != end + 1 || arguments.charAt(end) != ' ')) {
+                words = new StringBuilder().append(arguments, start, end);
+            }
+            final int wordEnd = getWordEnd(next);
+            if (words != null) {
+                words.append(' ').append(arguments, next, wordEnd);
+            }
+            end = wordEnd;
+        }
+        return words == null ? arguments.subSequence(start, end) : words.toString();
+    }
+
+    private int getWordEnd(int start) {
+        int end = start;
+        while (end < arguments.length() && !Parser.isWhitespace(arguments.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private int getId(String marker) {
+        for (int id = 0; id < markers.length; id++) {
+            if (markers[id].equals(marker)) {
+                return id;
+            }
+        }
+        throw new IllegalArgumentException("Unknown marker: " + marker);
+    }
+}
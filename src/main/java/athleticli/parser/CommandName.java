@@ -8,6 +8,7 @@ public class CommandName {
     public static final String COMMAND_HELP = "help";
     public static final String COMMAND_SAVE = "save";
     public static final String COMMAND_FIND = "find";
+    public static final String COMMAND_SWITCH_PROFILE = "switch-profile";
 
     /* Sleep Management */
     public static final String COMMAND_SLEEP_ADD = "add-sleep";
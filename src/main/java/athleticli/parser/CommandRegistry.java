@@ -0,0 +1,291 @@
+package athleticli.parser;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import athleticli.commands.ByeCommand;
+import athleticli.commands.Command;
+import athleticli.commands.FindCommand;
+import athleticli.commands.HelpCommand;
+import athleticli.commands.SaveCommand;
+import athleticli.commands.SwitchProfileCommand;
+import athleticli.commands.activity.AddActivityCommand;
+import athleticli.commands.activity.DeleteActivityCommand;
+import athleticli.commands.activity.DeleteActivityGoalCommand;
+import athleticli.commands.activity.EditActivityCommand;
+import athleticli.commands.activity.EditActivityGoalCommand;
+import athleticli.commands.activity.FindActivityCommand;
+import athleticli.commands.activity.ListActivityCommand;
+import athleticli.commands.activity.ListActivityGoalCommand;
+import athleticli.commands.activity.SetActivityGoalCommand;
+import athleticli.commands.diet.AddDietCommand;
+import athleticli.commands.diet.DeleteDietCommand;
+import athleticli.commands.diet.DeleteDietGoalCommand;
+import athleticli.commands.diet.EditDietCommand;
+import athleticli.commands.diet.EditDietGoalCommand;
+import athleticli.commands.diet.FindDietCommand;
+import athleticli.commands.diet.ListDietCommand;
+import athleticli.commands.diet.ListDietGoalCommand;
+import athleticli.commands.diet.SetDietGoalCommand;
+import athleticli.commands.sleep.AddSleepCommand;
+import athleticli.commands.sleep.DeleteSleepCommand;
+import athleticli.commands.sleep.EditSleepCommand;
+import athleticli.commands.sleep.EditSleepGoalCommand;
+import athleticli.commands.sleep.FindSleepCommand;
+import athleticli.commands.sleep.ListSleepCommand;
+import athleticli.commands.sleep.ListSleepGoalCommand;
+import athleticli.commands.sleep.SetSleepGoalCommand;
+import athleticli.data.activity.Activity;
+import athleticli.data.activity.Cycle;
+import athleticli.data.activity.Run;
+import athleticli.data.activity.Swim;
+import athleticli.data.sleep.Sleep;
+import athleticli.exceptions.AthletiException;
+import athleticli.ui.Message;
+
+/**
+ * Maps command words to the factories parsing their arguments into commands, and to their help messages.
+ * Looking up a command word costs the same for every command. The help messages are listed in the order
+ * the commands are registered, grouped by sections. The registry also counts how often each command is invoked.
+ */
+public class CommandRegistry {
+    private static final CommandRegistry registryInstance = createBuiltIn();
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+    private final List<String> helpLines = new CopyOnWriteArrayList<>();
+
+    /**
+     * Parses the arguments of a command into the command.
+     */
+    @FunctionalInterface
+    public interface CommandFactory {
+        /**
+         * Parses the arguments of a command into the command.
+         *
+         * @param commandArgs       The raw user input following the command word.
+         * @return                  The command to be executed.
+         * @throws AthletiException If the arguments are invalid.
+         */
+        Command create(String commandArgs) throws AthletiException;
+    }
+
+    /**
+     * Holds everything registered for a command word.
+     */
+    private static class Registration {
+        private final CommandFactory factory;
+        private final String help;
+        private final LongAdder invocationCount = new LongAdder();
+
+        Registration(CommandFactory factory, String help) {
+            this.factory = factory;
+            this.help = help;
+        }
+    }
+
+    /**
+     * Returns the registry holding all built-in commands, which is built once.
+     *
+     * @return The registry used by {@link Parser#parseCommand(String)}.
+     */
+    public static CommandRegistry getInstance() {
+        return registryInstance;
+    }
+
+    /**
+     * Starts a new section of the help messages listed after this call.
+     *
+     * @param heading The heading of the section.
+     */
+    public void addSection(String heading) {
+        helpLines.add("\n" + heading);
+    }
+
+    /**
+     * Registers a command.
+     *
+     * @param commandWord   The word that the user input of the command starts with.
+     * @param help          The help message showing the syntax of the command.
+     * @param factory       The factory parsing the arguments of the command.
+     * @throws IllegalArgumentException If the command word is already registered.
+     */
+    public void register(String commandWord, String help, CommandFactory factory) {
+        if (registrations.putIfAbsent(commandWord, new Registration(factory, help)) != null) {
+            throw new IllegalArgumentException("Command already registered: " + commandWord);
+        }
+        helpLines.add(help);
+    }
+
+    /**
+     * Parses the raw user input into a command, and counts the invocation of that command.
+     *
+     * @param rawUserInput      The raw user input.
+     * @return                  The command to be executed.
+     * @throws AthletiException If the command word is unknown, or the arguments are invalid.
+     */
+    public Command parse(String rawUserInput) throws AthletiException {
+        final String[] commandTypeAndParams = Parser.splitCommandWordAndArgs(rawUserInput);
+        final Registration registration = registrations.get(commandTypeAndParams[0]);
+        if (registration == null) {
+            throw new AthletiException(Message.MESSAGE_UNKNOWN_COMMAND);
+        }
+        registration.invocationCount.increment();
+        return registration.factory.create(commandTypeAndParams[1]);
+    }
+
+    /**
+     * Returns the help message of a command.
+     *
+     * @param commandWord   The command word.
+     * @return              The help message, or null if the command is not registered.
+     */
+    public String getHelp(String commandWord) {
+        final Registration registration = registrations.get(commandWord);
+        return registration == null ? null : registration.help;
+    }
+
+    /**
+     * Returns the help messages of all commands with their section headings, followed by where to find details.
+     *
+     * @return The lines to be shown.
+     */
+    public String[] getAllHelp() {
+        final List<String> lines = new ArrayList<>(helpLines);
+        lines.add("\n" + Message.HELP_DETAILS);
+        return lines.toArray(new String[0]);
+    }
+
+    /**
+     * Returns how often a command has been invoked, including invocations with invalid arguments.
+     *
+     * @param commandWord   The command word.
+     * @return              The number of invocations, or 0 if the command is not registered.
+     */
+    public long getInvocationCount(String commandWord) {
+        final Registration registration = registrations.get(commandWord);
+        return registration == null ? 0 : registration.invocationCount.sum();
+    }
+
+    /**
+     * Returns how often each command has been invoked.
+     *
+     * @return The number of invocations by command word, sorted by command word.
+     */
+    public Map<String, Long> getInvocationCounts() {
+        final Map<String, Long> counts = new LinkedHashMap<>();
+        registrations.keySet().stream().sorted().forEachOrdered(word -> counts.put(word, getInvocationCount(word)));
+        return counts;
+    }
+
+    private static CommandRegistry createBuiltIn() {
+        final CommandRegistry registry = new CommandRegistry();
+        registerActivityCommands(registry);
+        registerDietCommands(registry);
+        registerSleepCommands(registry);
+        registerMiscCommands(registry);
+        return registry;
+    }
+
+    private static void registerActivityCommands(CommandRegistry registry) {
+        registry.addSection("Activity Management:");
+        registry.register(CommandName.COMMAND_ACTIVITY, Message.HELP_ADD_ACTIVITY,
+                args -> new AddActivityCommand(ActivityParser.parseActivity(args)));
+        registry.register(CommandName.COMMAND_RUN, Message.HELP_ADD_RUN,
+                args -> new AddActivityCommand(ActivityParser.parseRunCycle(args, true)));
+        registry.register(CommandName.COMMAND_SWIM, Message.HELP_ADD_SWIM,
+                args -> new AddActivityCommand(ActivityParser.parseSwim(args)));
+        registry.register(CommandName.COMMAND_CYCLE, Message.HELP_ADD_CYCLE,
+                args -> new AddActivityCommand(ActivityParser.parseRunCycle(args, false)));
+        registry.register(CommandName.COMMAND_ACTIVITY_DELETE, Message.HELP_DELETE_ACTIVITY,
+                args -> new DeleteActivityCommand(ActivityParser.parseActivityIndex(args)));
+        registry.register(CommandName.COMMAND_ACTIVITY_LIST, Message.HELP_LIST_ACTIVITY,
+                args -> new ListActivityCommand(ActivityParser.parseActivityListDetail(args), Parser.parsePage(args)));
+        registry.register(CommandName.COMMAND_ACTIVITY_EDIT, Message.HELP_EDIT_ACTIVITY,
+                args -> new EditActivityCommand(ActivityParser.parseActivityEditIndex(args),
+                        ActivityParser.parseActivityEdit(args), Activity.class));
+        registry.register(CommandName.COMMAND_RUN_EDIT, Message.HELP_EDIT_RUN,
+                args -> new EditActivityCommand(ActivityParser.parseActivityEditIndex(args),
+                        ActivityParser.parseRunCycleEdit(args), Run.class));
+        registry.register(CommandName.COMMAND_SWIM_EDIT, Message.HELP_EDIT_SWIM,
+                args -> new EditActivityCommand(ActivityParser.parseActivityEditIndex(args),
+                        ActivityParser.parseSwimEdit(args), Swim.class));
+        registry.register(CommandName.COMMAND_CYCLE_EDIT, Message.HELP_EDIT_CYCLE,
+                args -> new EditActivityCommand(ActivityParser.parseActivityEditIndex(args),
+                        ActivityParser.parseRunCycleEdit(args), Cycle.class));
+        registry.register(CommandName.COMMAND_ACTIVITY_FIND, Message.HELP_FIND_ACTIVITY,
+                args -> new FindActivityCommand(Parser.parseDate(args)));
+        registry.register(CommandName.COMMAND_ACTIVITY_GOAL_SET, Message.HELP_SET_ACTIVITY_GOAL,
+                args -> new SetActivityGoalCommand(ActivityParser.parseActivityGoal(args)));
+        registry.register(CommandName.COMMAND_ACTIVITY_GOAL_EDIT, Message.HELP_EDIT_ACTIVITY_GOAL,
+                args -> new EditActivityGoalCommand(ActivityParser.parseActivityGoal(args)));
+        registry.register(CommandName.COMMAND_ACTIVITY_GOAL_DELETE, Message.HELP_DELETE_ACTIVITY_GOAL,
+                args -> new DeleteActivityGoalCommand(ActivityParser.parseDeleteActivityGoal(args)));
+        registry.register(CommandName.COMMAND_ACTIVITY_GOAL_LIST, Message.HELP_LIST_ACTIVITY_GOAL,
+                args -> new ListActivityGoalCommand());
+    }
+
+    private static void registerDietCommands(CommandRegistry registry) {
+        registry.addSection("Diet Management:");
+        registry.register(CommandName.COMMAND_DIET_ADD, Message.HELP_ADD_DIET,
+                args -> new AddDietCommand(DietParser.parseDiet(args)));
+        registry.register(CommandName.COMMAND_DIET_EDIT, Message.HELP_EDIT_DIET,
+                args -> new EditDietCommand(DietParser.parseDietIndex(args), DietParser.parseDietEdit(args)));
+        registry.register(CommandName.COMMAND_DIET_DELETE, Message.HELP_DELETE_DIET,
+                args -> new DeleteDietCommand(DietParser.parseDietIndex(args)));
+        registry.register(CommandName.COMMAND_DIET_LIST, Message.HELP_LIST_DIET,
+                args -> new ListDietCommand(Parser.parsePage(args)));
+        registry.register(CommandName.COMMAND_DIET_FIND, Message.HELP_FIND_DIET,
+                args -> new FindDietCommand(Parser.parseDate(args)));
+        registry.register(CommandName.COMMAND_DIET_GOAL_SET, Message.HELP_SET_DIET_GOAL,
+                args -> new SetDietGoalCommand(DietParser.parseDietGoalSetAndEdit(args)));
+        registry.register(CommandName.COMMAND_DIET_GOAL_EDIT, Message.HELP_EDIT_DIET_GOAL,
+                args -> new EditDietGoalCommand(DietParser.parseDietGoalSetAndEdit(args)));
+        registry.register(CommandName.COMMAND_DIET_GOAL_DELETE, Message.HELP_DELETE_DIET_GOAL,
+                args -> new DeleteDietGoalCommand(DietParser.parseDietGoalDelete(args)));
+        registry.register(CommandName.COMMAND_DIET_GOAL_LIST, Message.HELP_LIST_DIET_GOAL,
+                args -> new ListDietGoalCommand());
+    }
+
+    private static void registerSleepCommands(CommandRegistry registry) {
+        registry.addSection("Sleep Management:");
+        registry.register(CommandName.COMMAND_SLEEP_ADD, Message.HELP_ADD_SLEEP,
+                args -> new AddSleepCommand(SleepParser.parseSleep(args)));
+        registry.register(CommandName.COMMAND_SLEEP_LIST, Message.HELP_LIST_SLEEP,
+                args -> new ListSleepCommand(Parser.parsePage(args)));
+        registry.register(CommandName.COMMAND_SLEEP_DELETE, Message.HELP_DELETE_SLEEP,
+                args -> new DeleteSleepCommand(SleepParser.parseSleepIndex(args)));
+        registry.register(CommandName.COMMAND_SLEEP_EDIT, Message.HELP_EDIT_SLEEP,
+                args -> new EditSleepCommand(SleepParser.parseSleepIndex(args), SleepParser.parseSleep(args)));
+        registry.register(CommandName.COMMAND_SLEEP_FIND, Message.HELP_FIND_SLEEP, args -> {
+            if (args.contains(Parameter.START_TIME_SEPARATOR)) {
+                final Sleep window = SleepParser.parseSleep(args);
+                return new FindSleepCommand(window.getStartDateTime(), window.getEndDateTime());
+            }
+            return new FindSleepCommand(Parser.parseDate(args));
+        });
+        registry.register(CommandName.COMMAND_SLEEP_GOAL_SET, Message.HELP_SET_SLEEP_GOAL,
+                args -> new SetSleepGoalCommand(SleepParser.parseSleepGoal(args)));
+        registry.register(CommandName.COMMAND_SLEEP_GOAL_EDIT, Message.HELP_EDIT_SLEEP_GOAL,
+                args -> new EditSleepGoalCommand(SleepParser.parseSleepGoal(args)));
+        registry.register(CommandName.COMMAND_SLEEP_GOAL_LIST, Message.HELP_LIST_SLEEP_GOAL,
+                args -> new ListSleepGoalCommand());
+    }
+
+    private static void registerMiscCommands(CommandRegistry registry) {
+        registry.addSection("Misc:");
+        registry.register(CommandName.COMMAND_FIND, Message.HELP_FIND, args -> {
+            final LocalDate[] dates = Parser.parseDateRange(args);
+            return new FindCommand(dates[0], dates[1]);
+        });
+        registry.register(CommandName.COMMAND_SAVE, Message.HELP_SAVE, args -> new SaveCommand());
+        registry.register(CommandName.COMMAND_SWITCH_PROFILE, Message.HELP_SWITCH_PROFILE,
+                args -> new SwitchProfileCommand(Parser.parseProfile(args)));
+        registry.register(CommandName.COMMAND_BYE, Message.HELP_BYE, args -> new ByeCommand());
+        registry.register(CommandName.COMMAND_HELP, Message.HELP_HELP, HelpCommand::new);
+    }
+}
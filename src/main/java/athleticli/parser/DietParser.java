@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import static athleticli.parser.Parser.getValueForMarker;
+import static athleticli.parser.Parser.getValueSequenceForMarker;
 import static athleticli.parser.Parser.parseDateTime;
 import static athleticli.parser.Parser.parseNonNegativeInteger;
 
@@ -23,6 +24,9 @@ import static athleticli.parser.Parser.parseNonNegativeInteger;
  */
 public class DietParser {
     //@@author  yicheng-toh
+    private static final ThreadLocal<ArgumentTokenizer> dietTokenizer = ThreadLocal.withInitial(() ->
+            new ArgumentTokenizer(Parameter.CALORIES_SEPARATOR, Parameter.PROTEIN_SEPARATOR,
+                    Parameter.CARB_SEPARATOR, Parameter.FAT_SEPARATOR, Parameter.DATETIME_SEPARATOR));
 
     /**
      * @param commandArgsString User provided data to create goals for the nutrients defined.
@@ -56,7 +60,7 @@ public class DietParser {
 
         int nutrientStartingIndex;
         boolean isHealthy;
-        String[] commandArgs = commandArgsString.split(Parameter.SPACE_SEPEARATOR);
+        String[] commandArgs = Parser.WHITESPACE.split(commandArgsString);
 
         Goal.TimeSpan timespan = parsePeriod(commandArgs[Parameter.DIET_GOAL_TIME_SPAN_INDEX]);
         if (commandArgs[Parameter.DIET_GOAL_UNHEALTHY_FLAG_INDEX].equalsIgnoreCase(
@@ -84,7 +88,7 @@ public class DietParser {
 
             nutrientAndTargetValue = commandArgs[i].split(Parameter.DIET_GOAL_COMMAND_VALUE_SEPARATOR);
             nutrient = nutrientAndTargetValue[Parameter.DIET_GOAL_NUTRIENT_STARTING_INDEX];
-            targetValue = Integer.parseInt(nutrientAndTargetValue[Parameter.DIET_GOAL_TARGET_VALUE_STARTING_INDEX]);
+            targetValue = Parser.parseInt(nutrientAndTargetValue[Parameter.DIET_GOAL_TARGET_VALUE_STARTING_INDEX]);
 
             validateDietGoalParameters(recordedNutrients, targetValue, nutrient);
             DietGoal dietGoal = createNewDietGoal(isHealthy, timespan, nutrient, targetValue);
@@ -130,7 +134,7 @@ public class DietParser {
      */
     public static int parseDietGoalDelete(String deleteIndexString) throws AthletiException {
         try {
-            int deleteIndex = Integer.parseInt(deleteIndexString.trim());
+            int deleteIndex = Parser.parseInt(deleteIndexString.trim());
             if (deleteIndex <= 0) {
                 throw new AthletiException(Message.MESSAGE_DIET_GOAL_INCORRECT_INTEGER_FORMAT);
             }
@@ -168,16 +172,17 @@ public class DietParser {
      * @return An object representing the diet.
      * @throws AthletiException
      */
-    public static Diet parseDiet(String commandArgs) throws AthletiException {
-        checkMissingDietArguments(commandArgs);
+    public static Diet parseDiet(CharSequence commandArgs) throws AthletiException {
+        final ArgumentTokenizer tokenizer = dietTokenizer.get().tokenize(commandArgs);
+        checkMissingDietArguments(tokenizer);
 
-        checkDuplicateDietArguments(commandArgs);
+        checkDuplicateDietArguments(tokenizer);
 
-        final String calories = getValueForMarker(commandArgs, Parameter.CALORIES_SEPARATOR);
-        final String protein = getValueForMarker(commandArgs, Parameter.PROTEIN_SEPARATOR);
-        final String carb = getValueForMarker(commandArgs, Parameter.CARB_SEPARATOR);
-        final String fat = getValueForMarker(commandArgs, Parameter.FAT_SEPARATOR);
-        final String datetime = getValueForMarker(commandArgs, Parameter.DATETIME_SEPARATOR);
+        final CharSequence calories = getValueSequenceForMarker(tokenizer, Parameter.CALORIES_SEPARATOR);
+        final CharSequence protein = getValueSequenceForMarker(tokenizer, Parameter.PROTEIN_SEPARATOR);
+        final CharSequence carb = getValueSequenceForMarker(tokenizer, Parameter.CARB_SEPARATOR);
+        final CharSequence fat = getValueSequenceForMarker(tokenizer, Parameter.FAT_SEPARATOR);
+        final CharSequence datetime = getValueSequenceForMarker(tokenizer, Parameter.DATETIME_SEPARATOR);
 
         checkEmptyDietArguments(calories, protein, carb, fat, datetime);
 
@@ -205,6 +210,17 @@ public class DietParser {
         return markerPos == -1;
     }
 
+    /**
+     * Checks if marker is missing in the tokenized user input.
+     *
+     * @param tokenizer The tokenizer holding the occurrences of the marker.
+     * @param marker    The marker for the argument.
+     * @return True if the argument is missing, false otherwise.
+     */
+    public static boolean isArgumentMissing(ArgumentTokenizer tokenizer, String marker) {
+        return tokenizer.indexOf(marker) == -1;
+    }
+
     /**
      * Checks if marker is duplicated in the user input.
      *
@@ -218,6 +234,17 @@ public class DietParser {
         return markerPos != lastMarkerPos;
     }
 
+    /**
+     * Checks if marker is duplicated in the tokenized user input.
+     *
+     * @param tokenizer The tokenizer holding the occurrences of the marker.
+     * @param marker    The marker for the argument.
+     * @return True if the argument is duplicated, false otherwise.
+     */
+    public static boolean isArgumentDuplicate(ArgumentTokenizer tokenizer, String marker) {
+        return tokenizer.indexOf(marker) != tokenizer.lastIndexOf(marker);
+    }
+
     /**
      * Checks if any of the arguments for a diet is missing.
      *
@@ -225,19 +252,29 @@ public class DietParser {
      * @throws AthletiException
      */
     public static void checkMissingDietArguments(String commandArgs) throws AthletiException {
-        if (isArgumentMissing(commandArgs, Parameter.CALORIES_SEPARATOR)) {
+        checkMissingDietArguments(dietTokenizer.get().tokenize(commandArgs));
+    }
+
+    /**
+     * Checks if any of the arguments for a diet is missing in the tokenized user input.
+     *
+     * @param tokenizer The tokenizer holding the occurrences of the markers.
+     * @throws AthletiException
+     */
+    public static void checkMissingDietArguments(ArgumentTokenizer tokenizer) throws AthletiException {
+        if (isArgumentMissing(tokenizer, Parameter.CALORIES_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_CALORIES_MISSING);
         }
-        if (isArgumentMissing(commandArgs, Parameter.PROTEIN_SEPARATOR)) {
+        if (isArgumentMissing(tokenizer, Parameter.PROTEIN_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_PROTEIN_MISSING);
         }
-        if (isArgumentMissing(commandArgs, Parameter.CARB_SEPARATOR)) {
+        if (isArgumentMissing(tokenizer, Parameter.CARB_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_CARB_MISSING);
         }
-        if (isArgumentMissing(commandArgs, Parameter.FAT_SEPARATOR)) {
+        if (isArgumentMissing(tokenizer, Parameter.FAT_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_FAT_MISSING);
         }
-        if (isArgumentMissing(commandArgs, Parameter.DATETIME_SEPARATOR)) {
+        if (isArgumentMissing(tokenizer, Parameter.DATETIME_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_DIET_DATETIME_MISSING);
         }
     }
@@ -249,19 +286,29 @@ public class DietParser {
      * @throws AthletiException
      */
     public static void checkDuplicateDietArguments(String commandArgs) throws AthletiException {
-        if (isArgumentDuplicate(commandArgs, Parameter.CALORIES_SEPARATOR)) {
+        checkDuplicateDietArguments(dietTokenizer.get().tokenize(commandArgs));
+    }
+
+    /**
+     * Checks if any of the arguments for a diet is duplicated in the tokenized user input.
+     *
+     * @param tokenizer The tokenizer holding the occurrences of the markers.
+     * @throws AthletiException
+     */
+    public static void checkDuplicateDietArguments(ArgumentTokenizer tokenizer) throws AthletiException {
+        if (isArgumentDuplicate(tokenizer, Parameter.CALORIES_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_CALORIES_ARG_DUPLICATE);
         }
-        if (isArgumentDuplicate(commandArgs, Parameter.PROTEIN_SEPARATOR)) {
+        if (isArgumentDuplicate(tokenizer, Parameter.PROTEIN_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_PROTEIN_ARG_DUPLICATE);
         }
-        if (isArgumentDuplicate(commandArgs, Parameter.CARB_SEPARATOR)) {
+        if (isArgumentDuplicate(tokenizer, Parameter.CARB_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_CARB_ARG_DUPLICATE);
         }
-        if (isArgumentDuplicate(commandArgs, Parameter.FAT_SEPARATOR)) {
+        if (isArgumentDuplicate(tokenizer, Parameter.FAT_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_FAT_ARG_DUPLICATE);
         }
-        if (isArgumentDuplicate(commandArgs, Parameter.DATETIME_SEPARATOR)) {
+        if (isArgumentDuplicate(tokenizer, Parameter.DATETIME_SEPARATOR)) {
             throw new AthletiException(Message.MESSAGE_DIET_ARG_DATETIME_DUPLICATE);
         }
     }
@@ -276,21 +323,21 @@ public class DietParser {
      * @param datetime The datetime input.
      * @throws AthletiException
      */
-    public static void checkEmptyDietArguments(String calories, String protein, String carb, String fat,
-                                               String datetime) throws AthletiException {
-        if (calories.isEmpty()) {
+    public static void checkEmptyDietArguments(CharSequence calories, CharSequence protein, CharSequence carb,
+                                               CharSequence fat, CharSequence datetime) throws AthletiException {
+        if (calories.length() == 0) {
             throw new AthletiException(Message.MESSAGE_CALORIES_EMPTY);
         }
-        if (protein.isEmpty()) {
+        if (protein.length() == 0) {
             throw new AthletiException(Message.MESSAGE_PROTEIN_EMPTY);
         }
-        if (carb.isEmpty()) {
+        if (carb.length() == 0) {
             throw new AthletiException(Message.MESSAGE_CARB_EMPTY);
         }
-        if (fat.isEmpty()) {
+        if (fat.length() == 0) {
             throw new AthletiException(Message.MESSAGE_FAT_EMPTY);
         }
-        if (datetime.isEmpty()) {
+        if (datetime.length() == 0) {
             throw new AthletiException(Message.MESSAGE_DIET_DATETIME_EMPTY);
         }
     }
@@ -307,7 +354,7 @@ public class DietParser {
             throw new AthletiException(Message.MESSAGE_DIET_INDEX_TYPE_INVALID);
         }
 
-        String[] words = commandArgs.trim().split("\\s+", 2);  // Split into parts
+        String[] words = Parser.WHITESPACE.split(commandArgs.trim(), 2);  // Split into parts
         int parsedIndex = parseNonNegativeInteger(words[0], Message.MESSAGE_DIET_INDEX_TYPE_INVALID,
                 Message.MESSAGE_INVALID_DIET_INDEX);
 
@@ -325,14 +372,15 @@ public class DietParser {
      * @throws AthletiException If the input format is invalid.
      */
     public static HashMap<String, String> parseDietEdit(String arguments) throws AthletiException {
-        checkDuplicateDietArguments(arguments);
+        final ArgumentTokenizer tokenizer = dietTokenizer.get().tokenize(arguments);
+        checkDuplicateDietArguments(tokenizer);
 
         HashMap<String, String> dietMap = new HashMap<>();
-        String calories = getValueForMarker(arguments, Parameter.CALORIES_SEPARATOR);
-        String protein = getValueForMarker(arguments, Parameter.PROTEIN_SEPARATOR);
-        String carb = getValueForMarker(arguments, Parameter.CARB_SEPARATOR);
-        String fat = getValueForMarker(arguments, Parameter.FAT_SEPARATOR);
-        String datetime = getValueForMarker(arguments, Parameter.DATETIME_SEPARATOR);
+        String calories = getValueForMarker(tokenizer, Parameter.CALORIES_SEPARATOR);
+        String protein = getValueForMarker(tokenizer, Parameter.PROTEIN_SEPARATOR);
+        String carb = getValueForMarker(tokenizer, Parameter.CARB_SEPARATOR);
+        String fat = getValueForMarker(tokenizer, Parameter.FAT_SEPARATOR);
+        String datetime = getValueForMarker(tokenizer, Parameter.DATETIME_SEPARATOR);
         if (!calories.isEmpty()) {
             int caloriesParsed = parseNonNegativeInteger(calories, Message.MESSAGE_CALORIES_INVALID,
                     Message.MESSAGE_CALORIES_OVERFLOW);
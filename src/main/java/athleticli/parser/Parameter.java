@@ -28,6 +28,8 @@ public class Parameter {
     public static final String CYCLE_STORAGE_INDICATOR = "[Cycle]:";
     public static final String SWIM_STORAGE_INDICATOR = "[Swim]:";
     public static final String DETAIL_FLAG = "-d";
+    public static final String PAGE_FLAG = "--page";
+    public static final String LIMIT_FLAG = "--limit";
     public static final String DISTANCE_UNIT_METERS = " m";
     public static final String DISTANCE_UNIT_KILOMETERS = " km";
     public static final String SPEED_UNIT_KILOMETERS_PER_HOUR = " km/h";
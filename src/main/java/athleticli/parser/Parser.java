@@ -1,57 +1,35 @@
 package athleticli.parser;
 
-import athleticli.commands.ByeCommand;
 import athleticli.commands.Command;
-import athleticli.commands.FindCommand;
-import athleticli.commands.HelpCommand;
-import athleticli.commands.SaveCommand;
-import athleticli.commands.activity.AddActivityCommand;
-import athleticli.commands.activity.DeleteActivityCommand;
-import athleticli.commands.activity.DeleteActivityGoalCommand;
-import athleticli.commands.activity.EditActivityCommand;
-import athleticli.commands.activity.EditActivityGoalCommand;
-import athleticli.commands.activity.FindActivityCommand;
-import athleticli.commands.activity.ListActivityCommand;
-import athleticli.commands.activity.ListActivityGoalCommand;
-import athleticli.commands.activity.SetActivityGoalCommand;
-import athleticli.commands.diet.AddDietCommand;
-import athleticli.commands.diet.DeleteDietCommand;
-import athleticli.commands.diet.DeleteDietGoalCommand;
-import athleticli.commands.diet.EditDietCommand;
-import athleticli.commands.diet.EditDietGoalCommand;
-import athleticli.commands.diet.FindDietCommand;
-import athleticli.commands.diet.ListDietCommand;
-import athleticli.commands.diet.ListDietGoalCommand;
-import athleticli.commands.diet.SetDietGoalCommand;
-import athleticli.commands.sleep.AddSleepCommand;
-import athleticli.commands.sleep.DeleteSleepCommand;
-import athleticli.commands.sleep.EditSleepCommand;
-import athleticli.commands.sleep.EditSleepGoalCommand;
-import athleticli.commands.sleep.FindSleepCommand;
-import athleticli.commands.sleep.ListSleepCommand;
-import athleticli.commands.sleep.ListSleepGoalCommand;
-import athleticli.commands.sleep.SetSleepGoalCommand;
-import athleticli.data.activity.Activity;
-import athleticli.data.activity.Cycle;
-import athleticli.data.activity.Run;
-import athleticli.data.activity.Swim;
+import athleticli.commands.Page;
 import athleticli.exceptions.AthletiException;
 import athleticli.ui.Message;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeParseException;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static athleticli.common.Config.DATE_FORMATTER;
+import static athleticli.common.Config.DEFAULT_PAGE_SIZE;
 import static athleticli.common.Config.DATE_TIME_FORMATTER;
 
 /**
  * Defines the basic methods for command parser.
  */
 public class Parser {
+    /* returned by parseDigits if the input is not a non-negative integer of plain digits within the range of int */
+    public static final int NOT_DIGITS = -1;
+    public static final Pattern WHITESPACE = Pattern.compile(Parameter.SPACE_SEPEARATOR);
+    /* profile names are used as directory names, so they are restricted to characters safe on all file systems */
+    private static final Pattern PROFILE = Pattern.compile("[A-Za-z0-9_-]+");
     private static final String INVALID_YEAR = "0000";
+    /* the length of a date time in the layout uuuu-MM-dd HH:mm, which is also how a LocalDateTime is stored */
+    private static final int DATE_TIME_LENGTH = 16;
+    /* the time that date times are checked against during a batch, or null to use the current time */
+    private static final ThreadLocal<LocalDateTime> batchNow = new ThreadLocal<>();
 
     /**
      * Splits the raw user input into two parts, and then returns them. The first part is the command type,
@@ -63,119 +41,144 @@ public class Parser {
      */
     public static String[] splitCommandWordAndArgs(String rawUserInput) {
         assert rawUserInput != null : "`rawUserInput` should not be null";
-        final String[] split = rawUserInput.trim().split("\\s+", 2);
-        return split.length == 2 ? split : new String[]{split[0], ""};
+        final String trimmed = rawUserInput.trim();
+        int wordEnd = 0;
+        while (wordEnd < trimmed.length() && !isWhitespace(trimmed.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        int argsStart = wordEnd;
+        while (argsStart < trimmed.length() && isWhitespace(trimmed.charAt(argsStart))) {
+            argsStart++;
+        }
+        return new String[]{trimmed.substring(0, wordEnd), trimmed.substring(argsStart)};
     }
 
     /**
-     * Parses the raw user input and returns the corresponding command object.
+     * Returns whether a character is a whitespace as matched by <code>\s</code> in a regular expression.
      *
-     * @param rawUserInput The raw user input.
-     * @return An object representing the command.
-     * @throws AthletiException If the command is invalid
+     * @param c The character.
+     * @return  Whether the character is a whitespace.
      */
-    public static Command parseCommand(String rawUserInput) throws AthletiException {
-        assert rawUserInput != null : "`rawUserInput` should not be null";
-        final String[] commandTypeAndParams = splitCommandWordAndArgs(rawUserInput);
-        final String commandType = commandTypeAndParams[0];
-        final String commandArgs = commandTypeAndParams[1];
-        switch (commandType) {
-
-        /* General */
-        case CommandName.COMMAND_BYE:
-            return new ByeCommand();
-        case CommandName.COMMAND_HELP:
-            return new HelpCommand(commandArgs);
-        case CommandName.COMMAND_SAVE:
-            return new SaveCommand();
-        case CommandName.COMMAND_FIND:
-            return new FindCommand(parseDate(commandArgs));
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        /* Sleep Management */
-        case CommandName.COMMAND_SLEEP_ADD:
-            return new AddSleepCommand(SleepParser.parseSleep(commandArgs));
-        case CommandName.COMMAND_SLEEP_LIST:
-            return new ListSleepCommand();
-        case CommandName.COMMAND_SLEEP_EDIT:
-            return new EditSleepCommand(SleepParser.parseSleepIndex(commandArgs),
-                    SleepParser.parseSleep(commandArgs));
-        case CommandName.COMMAND_SLEEP_DELETE:
-            return new DeleteSleepCommand(SleepParser.parseSleepIndex(commandArgs));
-        case CommandName.COMMAND_SLEEP_FIND:
-            return new FindSleepCommand(parseDate(commandArgs));
+    /**
+     * Returns where the index at the start of the arguments of an edit command ends, i.e., the first position
+     * between a digit and a non-digit, which the regular expression <code>(?&lt;=\d)(?=\D)</code> would find.
+     *
+     * @param arguments The raw user input containing the index and the arguments.
+     * @return          The position after the index, or the length of the arguments if there is none.
+     */
+    public static int findIndexEnd(String arguments) {
+        for (int i = 1; i < arguments.length(); i++) {
+            if (isDigit(arguments.charAt(i - 1)) && !isDigit(arguments.charAt(i))) {
+                return i;
+            }
+        }
+        return arguments.length();
+    }
 
-        /*  Sleep Goal Management */
-        case CommandName.COMMAND_SLEEP_GOAL_LIST:
-            return new ListSleepGoalCommand();
-        case CommandName.COMMAND_SLEEP_GOAL_SET:
-            return new SetSleepGoalCommand(SleepParser.parseSleepGoal(commandArgs));
-        case CommandName.COMMAND_SLEEP_GOAL_EDIT:
-            return new EditSleepGoalCommand(SleepParser.parseSleepGoal(commandArgs));
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 
-        /* Activity Management */
-        case CommandName.COMMAND_ACTIVITY:
-            return new AddActivityCommand(ActivityParser.parseActivity(commandArgs));
-        case CommandName.COMMAND_CYCLE:
-            return new AddActivityCommand(ActivityParser.parseRunCycle(commandArgs, false));
-        case CommandName.COMMAND_RUN:
-            return new AddActivityCommand(ActivityParser.parseRunCycle(commandArgs, true));
-        case CommandName.COMMAND_SWIM:
-            return new AddActivityCommand(ActivityParser.parseSwim(commandArgs));
-        case CommandName.COMMAND_ACTIVITY_DELETE:
-            return new DeleteActivityCommand(ActivityParser.parseActivityIndex(commandArgs));
-        case CommandName.COMMAND_ACTIVITY_LIST:
-            return new ListActivityCommand(ActivityParser.parseActivityListDetail(commandArgs));
-        case CommandName.COMMAND_ACTIVITY_EDIT:
-            return new EditActivityCommand(ActivityParser.parseActivityEditIndex(commandArgs),
-                    ActivityParser.parseActivityEdit(commandArgs), Activity.class);
-        case CommandName.COMMAND_RUN_EDIT:
-            return new EditActivityCommand(ActivityParser.parseActivityEditIndex(commandArgs),
-                    ActivityParser.parseRunCycleEdit(commandArgs), Run.class);
-        case CommandName.COMMAND_CYCLE_EDIT:
-            return new EditActivityCommand(ActivityParser.parseActivityEditIndex(commandArgs),
-                    ActivityParser.parseRunCycleEdit(commandArgs), Cycle.class);
-        case CommandName.COMMAND_SWIM_EDIT:
-            return new EditActivityCommand(ActivityParser.parseActivityEditIndex(commandArgs),
-                    ActivityParser.parseSwimEdit(commandArgs), Swim.class);
-        case CommandName.COMMAND_ACTIVITY_FIND:
-            return new FindActivityCommand(parseDate(commandArgs));
+    /**
+     * Returns the text without its leading and trailing whitespace, like <code>String.trim</code>.
+     * The result is a subsequence of the text, so it stays a view if the text is a view, e.g., of a mapped file.
+     *
+     * @param text  The text to be trimmed.
+     * @return      The text without leading and trailing characters up to <code>' '</code>.
+     */
+    public static CharSequence trim(CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return start == 0 && end == text.length() ? text : text.subSequence(start, end);
+    }
 
-        /* Activity Goal Management */
-        case CommandName.COMMAND_ACTIVITY_GOAL_SET:
-            return new SetActivityGoalCommand(ActivityParser.parseActivityGoal(commandArgs));
-        case CommandName.COMMAND_ACTIVITY_GOAL_DELETE:
-            return new DeleteActivityGoalCommand(ActivityParser.parseDeleteActivityGoal(commandArgs));
-        case CommandName.COMMAND_ACTIVITY_GOAL_EDIT:
-            return new EditActivityGoalCommand(ActivityParser.parseActivityGoal(commandArgs));
-        case CommandName.COMMAND_ACTIVITY_GOAL_LIST:
-            return new ListActivityGoalCommand();
+    /**
+     * Returns whether the text contains a prefix at a position, like <code>String.startsWith</code>.
+     *
+     * @param text      The text to be searched.
+     * @param prefix    The prefix to be matched.
+     * @param offset    The position in the text where the prefix should start.
+     * @return          Whether the prefix is found at the position.
+     */
+    public static boolean startsWith(CharSequence text, String prefix, int offset) {
+        if (offset < 0 || offset > text.length() - prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        /* Diet Management */
-        case CommandName.COMMAND_DIET_ADD:
-            return new AddDietCommand(DietParser.parseDiet(commandArgs));
-        case CommandName.COMMAND_DIET_EDIT:
-            return new EditDietCommand(DietParser.parseDietIndex(commandArgs),
-                    DietParser.parseDietEdit(commandArgs));
-        case CommandName.COMMAND_DIET_DELETE:
-            return new DeleteDietCommand(DietParser.parseDietIndex(commandArgs));
-        case CommandName.COMMAND_DIET_LIST:
-            return new ListDietCommand();
-        case CommandName.COMMAND_DIET_FIND:
-            return new FindDietCommand(parseDate(commandArgs));
+    /**
+     * Returns the position of the first occurrence of a character, like <code>String.indexOf</code>.
+     *
+     * @param text  The text to be searched.
+     * @param c     The character to be found.
+     * @return      The position of the character, or -1 if it is not found.
+     */
+    public static int indexOf(CharSequence text, char c) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
 
-        /* Diet Goal Management */
-        case CommandName.COMMAND_DIET_GOAL_SET:
-            return new SetDietGoalCommand(DietParser.parseDietGoalSetAndEdit(commandArgs));
-        case CommandName.COMMAND_DIET_GOAL_EDIT:
-            return new EditDietGoalCommand(DietParser.parseDietGoalSetAndEdit(commandArgs));
-        case CommandName.COMMAND_DIET_GOAL_LIST:
-            return new ListDietGoalCommand();
-        case CommandName.COMMAND_DIET_GOAL_DELETE:
-            return new DeleteDietGoalCommand(DietParser.parseDietGoalDelete(commandArgs));
+    /**
+     * Returns the constant of an enum whose name matches the text, ignoring case, as <code>valueOf</code> would
+     * for the text in upper case, but without copying the text.
+     *
+     * @param type  The class of the enum.
+     * @param text  The name of the constant in any case.
+     * @param <E>   The type of the enum.
+     * @return      The matching constant.
+     * @throws IllegalArgumentException If no constant matches the text.
+     */
+    public static <E extends Enum<E>> E parseEnum(Class<E> type, CharSequence text) {
+        for (E constant : type.getEnumConstants()) {
+            if (isUpperCaseOf(constant.name(), text)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("No constant " + text + " in " + type.getSimpleName());
+    }
 
-        default:
-            throw new AthletiException(Message.MESSAGE_UNKNOWN_COMMAND);
+    private static boolean isUpperCaseOf(String upperCase, CharSequence text) {
+        if (upperCase.length() != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < upperCase.length(); i++) {
+            if (Character.toUpperCase(text.charAt(i)) != upperCase.charAt(i)) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    /**
+     * Parses the raw user input and returns the corresponding command object.
+     *
+     * @param rawUserInput The raw user input.
+     * @return An object representing the command.
+     * @throws AthletiException If the command is invalid
+     */
+    public static Command parseCommand(String rawUserInput) throws AthletiException {
+        assert rawUserInput != null : "`rawUserInput` should not be null";
+        return CommandRegistry.getInstance().parse(rawUserInput);
     }
 
     /**
@@ -185,22 +188,82 @@ public class Parser {
      * @return datetimeParsed   The parsed LocalDateTime object.
      * @throws AthletiException If the input format is invalid.
      */
-    public static LocalDateTime parseDateTime(String datetime) throws AthletiException {
-        if (datetime.startsWith(INVALID_YEAR)) {
+    public static LocalDateTime parseDateTime(CharSequence datetime) throws AthletiException {
+        if (startsWith(datetime, INVALID_YEAR, 0)) {
             throw new AthletiException(Message.MESSAGE_DATETIME_INVALID);
         }
-        LocalDateTime datetimeParsed;
-        try {
-            datetimeParsed = LocalDateTime.parse(datetime.replace("T", " "), DATE_TIME_FORMATTER);
-            if (datetimeParsed.isAfter(LocalDateTime.now())) {
-                throw new AthletiException(Message.MESSAGE_DATE_FUTURE);
+        LocalDateTime datetimeParsed = parseFixedDateTime(datetime);
+        if (datetimeParsed == null) {
+            try {
+                datetimeParsed = LocalDateTime.parse(datetime.toString().replace("T", " "), DATE_TIME_FORMATTER);
+            } catch (DateTimeParseException e) {
+                throw new AthletiException(Message.MESSAGE_DATETIME_INVALID);
             }
-        } catch (DateTimeParseException e) {
-            throw new AthletiException(Message.MESSAGE_DATETIME_INVALID);
+        }
+        final LocalDateTime now = batchNow.get();
+        if (datetimeParsed.isAfter(now == null ? LocalDateTime.now() : now)) {
+            throw new AthletiException(Message.MESSAGE_DATE_FUTURE);
         }
         return datetimeParsed;
     }
 
+    /**
+     * Parses a date time in the layout <code>uuuu-MM-dd HH:mm</code>, or <code>uuuu-MM-ddTHH:mm</code> as stored,
+     * by the positions of its fields, which is much faster than a <code>DateTimeFormatter</code>.
+     *
+     * @param datetime  The raw date time.
+     * @return          The parsed date time, or null if it has another layout or an invalid field,
+     *                  in which case it is left to the formatter.
+     */
+    private static LocalDateTime parseFixedDateTime(CharSequence datetime) {
+        if (datetime.length() != DATE_TIME_LENGTH || datetime.charAt(4) != '-' || datetime.charAt(7) != '-'
+                || (datetime.charAt(10) != ' ' && datetime.charAt(10) != 'T') || datetime.charAt(13) != ':') {
+            return null;
+        }
+        final int century = parseTwoDigits(datetime, 0);
+        final int yearOfCentury = parseTwoDigits(datetime, 2);
+        final int month = parseTwoDigits(datetime, 5);
+        final int day = parseTwoDigits(datetime, 8);
+        final int hour = parseTwoDigits(datetime, 11);
+        final int minute = parseTwoDigits(datetime, 14);
+        if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23
+                || minute < 0 || minute > 59) {
+            return null;
+        }
+        final int year = century * 100 + yearOfCentury;
+        if (day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Returns the value of two digits at a position, or -1 if they are not both digits.
+     */
+    private static int parseTwoDigits(CharSequence s, int position) {
+        final char tens = s.charAt(position);
+        final char ones = s.charAt(position + 1);
+        if (!isDigit(tens) || !isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    /**
+     * Checks date times parsed on this thread against a single time until {@link #endBatch()} is called,
+     * instead of reading the clock for every date time, e.g., while loading a list.
+     */
+    public static void beginBatch() {
+        batchNow.set(LocalDateTime.now());
+    }
+
+    /**
+     * Checks date times parsed on this thread against the current time again.
+     */
+    public static void endBatch() {
+        batchNow.remove();
+    }
+
     public static LocalDate parseDate(String date) throws AthletiException {
         if (date.startsWith(INVALID_YEAR)) {
             throw new AthletiException(Message.MESSAGE_DATE_INVALID);
@@ -216,6 +279,79 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses a single date or a range of two dates provided by the user.
+     * A single date is returned as a range starting and ending on that date.
+     *
+     * @param dates             The raw user input containing one or two dates.
+     * @return                  The first and the last date of the range.
+     * @throws AthletiException If any date is invalid, or the range ends before it starts.
+     */
+    public static LocalDate[] parseDateRange(String dates) throws AthletiException {
+        final String[] parts = WHITESPACE.split(dates.trim());
+        if (parts.length > 2) {
+            throw new AthletiException(Message.MESSAGE_DATE_INVALID);
+        }
+        final LocalDate startDate = parseDate(parts[0]);
+        final LocalDate endDate = parts.length == 2 ? parseDate(parts[1]) : startDate;
+        if (endDate.isBefore(startDate)) {
+            throw new AthletiException(Message.MESSAGE_DATE_RANGE_INVALID);
+        }
+        return new LocalDate[]{startDate, endDate};
+    }
+
+    /**
+     * Parses the optional page number and limit of a list command.
+     * If only one of them is given, the other one defaults to the first page or the default page size.
+     *
+     * @param commandArgs       The raw user input containing the arguments.
+     * @return                  The page to be shown, or the whole list if neither is given.
+     * @throws AthletiException If the page number or the limit is not a positive integer.
+     */
+    public static Page parsePage(String commandArgs) throws AthletiException {
+        final String[] tokens = WHITESPACE.split(commandArgs.trim());
+        int number = 0;
+        int limit = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            if (!tokens[i].equals(Parameter.PAGE_FLAG) && !tokens[i].equals(Parameter.LIMIT_FLAG)) {
+                continue;
+            }
+            if (i + 1 == tokens.length) {
+                throw new AthletiException(Message.MESSAGE_PAGE_INVALID);
+            }
+            final int value = parseNonNegativeInteger(tokens[i + 1], Message.MESSAGE_PAGE_INVALID,
+                    Message.MESSAGE_PAGE_INVALID);
+            if (value == 0) {
+                throw new AthletiException(Message.MESSAGE_PAGE_INVALID);
+            }
+            if (tokens[i].equals(Parameter.PAGE_FLAG)) {
+                number = value;
+            } else {
+                limit = value;
+            }
+            i++;
+        }
+        if (number == 0 && limit == 0) {
+            return Page.ALL;
+        }
+        return new Page(number == 0 ? 1 : number, limit == 0 ? DEFAULT_PAGE_SIZE : limit);
+    }
+
+    /**
+     * Parses the name of a profile.
+     *
+     * @param commandArgs       The raw user input containing the arguments.
+     * @return                  The name of the profile.
+     * @throws AthletiException If the name is missing or contains other characters than letters, digits, "-" and "_".
+     */
+    public static String parseProfile(String commandArgs) throws AthletiException {
+        final String profile = commandArgs.trim();
+        if (!PROFILE.matcher(profile).matches()) {
+            throw new AthletiException(Message.MESSAGE_PROFILE_INVALID);
+        }
+        return profile;
+    }
+
     /**
      * Parses the raw integer input provided by the user.
      *
@@ -225,11 +361,15 @@ public class Parser {
      * @return integerParsed  The parsed integer.
      * @throws AthletiException If the input format is invalid.
      */
-    public static int parseNonNegativeInteger(String integer, String invalidMessage,
+    public static int parseNonNegativeInteger(CharSequence integer, String invalidMessage,
                                               String overflowMessage) throws AthletiException {
+        final int digitsParsed = parseDigits(integer);
+        if (digitsParsed != NOT_DIGITS) {
+            return digitsParsed;
+        }
         java.math.BigInteger integerParsed;
         try {
-            integerParsed = new java.math.BigInteger(integer);
+            integerParsed = new java.math.BigInteger(integer.toString());
         } catch (NumberFormatException e) {
             throw new AthletiException(invalidMessage);
         }
@@ -242,6 +382,45 @@ public class Parser {
         return integerParsed.intValue();
     }
 
+    /**
+     * Parses a non-negative integer made of plain digits without throwing, so that valid input,
+     * which is the usual case, does not pay for an exception. Other input, such as a sign, has to be parsed
+     * by a method that can tell what is wrong with it.
+     *
+     * @param digits    The raw user input containing the integer.
+     * @return          The parsed integer, or {@link #NOT_DIGITS} if the input is empty, contains anything other
+     *                  than the digits 0 to 9, or is larger than <code>Integer.MAX_VALUE</code>.
+     */
+    public static int parseDigits(CharSequence digits) {
+        if (digits.length() == 0) {
+            return NOT_DIGITS;
+        }
+        long parsed = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            final char c = digits.charAt(i);
+            if (!isDigit(c)) {
+                return NOT_DIGITS;
+            }
+            parsed = parsed * 10 + (c - '0');
+            if (parsed > Integer.MAX_VALUE) {
+                return NOT_DIGITS;
+            }
+        }
+        return (int) parsed;
+    }
+
+    /**
+     * Parses an integer like <code>Integer.parseInt</code>, but only throws for input that is not plain digits.
+     *
+     * @param integer                   The raw user input containing the integer.
+     * @return                          The parsed integer.
+     * @throws NumberFormatException    If the input is not an integer.
+     */
+    public static int parseInt(String integer) {
+        final int digitsParsed = parseDigits(integer);
+        return digitsParsed != NOT_DIGITS ? digitsParsed : Integer.parseInt(integer);
+    }
+
     /**
      * Parses the value for a specific marker in a given argument string.
      *
@@ -250,33 +429,31 @@ public class Parser {
      * @return The value associated with the given marker, or an empty string if the marker is not found.
      */
     public static String getValueForMarker(String arguments, String marker) {
-        String patternString;
-
-        if (marker.equals(Parameter.DATETIME_SEPARATOR)) {
-            // Capture one or two words following the DATETIME_SEPARATOR
-            patternString = Pattern.quote(marker) + "(\\S+)(?:\\s+(\\S+))?";
-        } else {
-            patternString = Pattern.quote(marker) + "(\\S+)";
-        }
-
-        Pattern pattern = Pattern.compile(patternString);
-        Matcher matcher = pattern.matcher(arguments);
+        return getValueForMarker(new ArgumentTokenizer(marker).tokenize(arguments), marker);
+    }
 
-        if (matcher.find()) {
-            if (marker.equals(Parameter.DATETIME_SEPARATOR)) {
-                String firstPart = matcher.group(1);
-                String secondPart = matcher.group(2);
-                if (secondPart != null) {
-                    return firstPart + " " + secondPart;
-                } else {
-                    return firstPart;
-                }
-            } else {
-                return matcher.group(1);
-            }
-        }
+    /**
+     * Returns the value for a specific marker in arguments that have been tokenized,
+     * which is the word following the marker, or up to two words for a datetime.
+     *
+     * @param tokenizer The tokenizer holding the occurrences of the marker.
+     * @param marker    The marker whose value is to be retrieved.
+     * @return The value associated with the given marker, or an empty string if the marker is not found.
+     */
+    public static String getValueForMarker(ArgumentTokenizer tokenizer, String marker) {
+        return getValueSequenceForMarker(tokenizer, marker).toString();
+    }
 
-        // Return empty string if no match is found
-        return "";
+    /**
+     * Returns the value for a specific marker in arguments that have been tokenized, like
+     * {@link #getValueForMarker(ArgumentTokenizer, String)}, as a subsequence of the arguments if its words are
+     * separated by single spaces, so that the value is not copied out of the arguments.
+     *
+     * @param tokenizer The tokenizer holding the occurrences of the marker.
+     * @param marker    The marker whose value is to be retrieved.
+     * @return The value associated with the given marker, or an empty sequence if the marker is not found.
+     */
+    public static CharSequence getValueSequenceForMarker(ArgumentTokenizer tokenizer, String marker) {
+        return tokenizer.getWordSequence(marker, marker.equals(Parameter.DATETIME_SEPARATOR) ? 2 : 1);
     }
 }
@@ -10,6 +10,10 @@ import athleticli.ui.Message;
 
 public class SleepParser {
     //@@author  DaDevChia
+    private static final ThreadLocal<ArgumentTokenizer> sleepTokenizer = ThreadLocal.withInitial(() ->
+            new ArgumentTokenizer(Parameter.START_TIME_SEPARATOR, Parameter.END_TIME_SEPARATOR));
+    private static final ThreadLocal<ArgumentTokenizer> sleepGoalTokenizer = ThreadLocal.withInitial(() ->
+            new ArgumentTokenizer(Parameter.TYPE_SEPARATOR, Parameter.PERIOD_SEPARATOR, Parameter.TARGET_SEPARATOR));
 
     /* Sleep Management */
 
@@ -20,9 +24,10 @@ public class SleepParser {
      * @return An object representing the sleep add command.
      * @throws AthletiException
      */
-    public static Sleep parseSleep(String commandArgs) throws AthletiException {
-        final int startDatetimeIndex = commandArgs.indexOf(Parameter.START_TIME_SEPARATOR);
-        final int endDatetimeIndex = commandArgs.indexOf(Parameter.END_TIME_SEPARATOR);
+    public static Sleep parseSleep(CharSequence commandArgs) throws AthletiException {
+        final ArgumentTokenizer tokenizer = sleepTokenizer.get().tokenize(commandArgs);
+        final int startDatetimeIndex = tokenizer.indexOf(Parameter.START_TIME_SEPARATOR);
+        final int endDatetimeIndex = tokenizer.indexOf(Parameter.END_TIME_SEPARATOR);
 
         if (startDatetimeIndex == -1 || endDatetimeIndex == -1) {
             throw new AthletiException(Message.ERRORMESSAGE_PARSER_SLEEP_NO_START_END_DATETIME);
@@ -32,14 +37,12 @@ public class SleepParser {
             throw new AthletiException(Message.ERRORMESSAGE_PARSER_SLEEP_INVALID_START_END_ORDER);
         }
 
-        final String startDatetimeStr =
-                commandArgs.substring(startDatetimeIndex + Parameter.START_TIME_SEPARATOR.length(), endDatetimeIndex)
-                        .trim();
-        final String endDatetimeStr =
-                commandArgs.substring(endDatetimeIndex + Parameter.END_TIME_SEPARATOR.length()).trim();
+        final CharSequence startDatetimeStr = Parser.trim(commandArgs.subSequence(
+                startDatetimeIndex + Parameter.START_TIME_SEPARATOR.length(), endDatetimeIndex));
+        final CharSequence endDatetimeStr = Parser.trim(commandArgs.subSequence(
+                endDatetimeIndex + Parameter.END_TIME_SEPARATOR.length(), commandArgs.length()));
 
-        if (startDatetimeStr == null || startDatetimeStr.isEmpty() 
-            || endDatetimeStr == null || endDatetimeStr.isEmpty()) {
+        if (startDatetimeStr.length() == 0 || endDatetimeStr.length() == 0) {
             throw new AthletiException(Message.ERRORMESSAGE_PARSER_SLEEP_NO_START_END_DATETIME);
         }
 
@@ -65,7 +68,7 @@ public class SleepParser {
      * @throws AthletiException If the index is invalid.
      */
     public static int parseSleepIndex(String commandArgs) throws AthletiException {
-        final String indexStr = commandArgs.split("(?<=\\d)(?=\\D)", 2)[0].trim();
+        final String indexStr = commandArgs.substring(0, Parser.findIndexEnd(commandArgs)).trim();
         
         if (indexStr == null || indexStr.isEmpty()) {
             throw new AthletiException(Message.ERRORMESSAGE_PARSER_SLEEP_NO_INDEX);
@@ -73,7 +76,7 @@ public class SleepParser {
 
         int index;
         try {
-            index = Integer.parseInt(indexStr);
+            index = Parser.parseInt(indexStr);
         } catch (NumberFormatException e) {
             throw new AthletiException(Message.ERRORMESSAGE_PARSER_SLEEP_INVALID_INDEX);
         }
@@ -95,9 +98,10 @@ public class SleepParser {
      * @throws AthletiException If the sleep goal is invalid.
      */
     public static SleepGoal parseSleepGoal(String commandArgs) throws AthletiException {
-        final int goalTypeIndex = commandArgs.indexOf(Parameter.TYPE_SEPARATOR);
-        final int periodIndex = commandArgs.indexOf(Parameter.PERIOD_SEPARATOR);
-        final int targetValueIndex = commandArgs.indexOf(Parameter.TARGET_SEPARATOR);
+        final ArgumentTokenizer tokenizer = sleepGoalTokenizer.get().tokenize(commandArgs);
+        final int goalTypeIndex = tokenizer.indexOf(Parameter.TYPE_SEPARATOR);
+        final int periodIndex = tokenizer.indexOf(Parameter.PERIOD_SEPARATOR);
+        final int targetValueIndex = tokenizer.indexOf(Parameter.TARGET_SEPARATOR);
 
         if (goalTypeIndex == -1 || periodIndex == -1 || targetValueIndex == -1) {
             throw new AthletiException(Message.ERRORMESSAGE_PARSER_SLEEP_GOAL_MISSING_PARAMETERS);
@@ -161,7 +165,7 @@ public class SleepParser {
     private static int parseTarget(String target) throws AthletiException {
         int targetParsed;
         try {
-            targetParsed = Integer.parseInt(target);
+            targetParsed = Parser.parseInt(target);
         } catch (NumberFormatException e) {
             throw new AthletiException(Message.ERRORMESSAGE_PARSER_SLEEP_GOAL_INVALID_TARGET);
         }
@@ -0,0 +1,83 @@
+package athleticli.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents a line of ASCII text inside a memory-mapped file without copying it.
+ * The line is only valid until the mapping is released, after which reading it throws an
+ * <code>IllegalStateException</code> instead of reading memory that is no longer mapped.
+ */
+class MappedLine implements CharSequence {
+    private final Mapping mapping;
+    private final int start;
+    private final int length;
+
+    /**
+     * Holds the buffer of a mapped file until it is released, which all lines of the file share.
+     */
+    static class Mapping {
+        private ByteBuffer buffer;
+
+        Mapping(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns the buffer, so that no line can read it anymore.
+         */
+        ByteBuffer release() {
+            final ByteBuffer released = buffer;
+            buffer = null;
+            return released;
+        }
+
+        private ByteBuffer getBuffer() {
+            if (buffer == null) {
+                throw new IllegalStateException("Line read after its mapping was released");
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * Constructs a view of the bytes in <code>[start, start + length)</code> of the mapped file.
+     *
+     * @param mapping   The mapping holding ASCII bytes.
+     * @param start     The index of the first byte.
+     * @param length    The number of bytes.
+     */
+    MappedLine(Mapping mapping, int start, int length) {
+        this.mapping = mapping;
+        this.start = start;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) mapping.getBuffer().get(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException(from);
+        }
+        return new MappedLine(mapping, start + from, to - from);
+    }
+
+    @Override
+    public String toString() {
+        final byte[] bytes = new byte[length];
+        mapping.getBuffer().duplicate().position(start).get(bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
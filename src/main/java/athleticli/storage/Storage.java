@@ -1,11 +1,27 @@
 package athleticli.storage;
 
+import static athleticli.common.Config.WRITE_BUFFER_SIZE;
+
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import athleticli.exceptions.WrappedIOException;
@@ -14,40 +30,263 @@ import athleticli.exceptions.WrappedIOException;
  * Defines the basic methods for file storage.
  */
 public class Storage {
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String POSIX_ATTRIBUTE_VIEW = "posix";
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAPPED_CHUNK_SIZE = 1 << 16;
+    /* unmaps a mapped buffer at once instead of when it is garbage-collected, or null if the JVM cannot */
+    private static final Consumer<ByteBuffer> UNMAPPER = findUnmapper();
+
     /**
-     * Saves strings into a file.
+     * Saves strings into a file. The strings are written to a temporary file in the same directory,
+     * which is synced to the disk and then atomically moved over the original file,
+     * so that the original file is left intact if the program dies halfway.
      *
      * @param path      The path to the file.
      * @param items     The stream of strings.
      * @throws IOException
      */
     public static void save(String path, Stream<String> items) throws IOException {
+        final Path target = Path.of(path);
+        final Path temp = createTempFileFor(target);
+        try {
+            try (FileOutputStream stream = new FileOutputStream(temp.toFile());
+                    BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8),
+                            WRITE_BUFFER_SIZE)) {
+                items.filter(Objects::nonNull).forEachOrdered(str -> {
+                    try {
+                        writer.write(str);
+                    } catch (IOException e) {
+                        throw new WrappedIOException(e);
+                    }
+                });
+                writer.flush();
+                stream.getChannel().force(true);
+            } catch (WrappedIOException e) {
+                throw e.getCause();
+            }
+            moveAtomically(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Appends a string to the end of a file, creating the file if it does not exist.
+     *
+     * @param path      The path to the file.
+     * @param item      The string to be appended.
+     * @throws IOException
+     */
+    public static void append(String path, String item) throws IOException {
         File file = new File(path);
         if (!file.exists()) {
             file.getParentFile().mkdirs();
-            file.createNewFile();
         }
-        FileWriter fileWriter = new FileWriter(file);
+        Files.writeString(Path.of(path), item, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Saves raw bytes into a file, replacing its content in the same crash-safe way as {@link #save}.
+     *
+     * @param path      The path to the file.
+     * @param bytes     The bytes to be written, from the buffer's position to its limit.
+     * @throws IOException
+     */
+    public static void saveBytes(String path, ByteBuffer bytes) throws IOException {
+        final Path target = Path.of(path);
+        final Path temp = createTempFileFor(target);
         try {
-            items.filter(Objects::nonNull).forEachOrdered(str -> {
-                try {
-                    fileWriter.write(str);
-                } catch (IOException e) {
-                    throw new WrappedIOException(e);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
                 }
-            });
-        } catch (WrappedIOException e) {
-            throw e.getCause();
+                channel.force(true);
+            }
+            moveAtomically(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file in the directory of the target file, creating the directory if needed.
+     * Keeping both files in the same directory allows the temporary file to be moved atomically.
+     * The temporary file is created with the default permissions, unlike <code>Files.createTempFile</code>
+     * restricting them to the owner, and takes those of the target file if it exists, so that replacing a file
+     * keeps its permissions.
+     *
+     * @param target    The file to be replaced.
+     * @return          The path to the temporary file.
+     * @throws IOException
+     */
+    private static Path createTempFileFor(Path target) throws IOException {
+        final Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp;
+        while (true) {
+            final String name = target.getFileName() + Long.toUnsignedString(RANDOM.nextLong()) + TEMP_SUFFIX;
+            try {
+                temp = Files.createFile(directory.resolve(name));
+                break;
+            } catch (FileAlreadyExistsException e) {
+                /* another name is tried */
+            }
+        }
+        try {
+            copyPermissions(target, temp);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return temp;
+    }
+
+    /**
+     * Gives the POSIX permissions of the source file to the target file, if the source file exists on a file system
+     * supporting them.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (source.getFileSystem().supportedFileAttributeViews().contains(POSIX_ATTRIBUTE_VIEW)
+                && Files.exists(source)) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+
+    /**
+     * Moves the source file over the target file, atomically if the file system supports it.
+     *
+     * @param source    The file to be moved.
+     * @param target    The file to be replaced.
+     * @throws IOException
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
         }
-        fileWriter.close();
+    }
+
+    /**
+     * Loads the whole content of a file as raw bytes.
+     *
+     * @param path      The path to the file.
+     * @return          A buffer containing the content of the file.
+     * @throws IOException
+     */
+    public static ByteBuffer loadBytes(String path) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(Path.of(path)));
     }
 
     public static Stream<String> load(String path) throws IOException {
+        createIfMissing(path);
+        return Files.lines(Path.of(path));
+    }
+
+    /**
+     * Passes each line of a file to the consumer, without decoding the whole file into strings.
+     * The file is memory-mapped, and ASCII lines are passed as views of the mapped bytes, while other lines are
+     * decoded as UTF-8. The views are only valid during the call to the consumer, so the consumer has to copy
+     * anything it keeps. The mapping is released before returning, so that the file can be replaced at once,
+     * which Windows does not allow while it is mapped. If the JVM cannot release a mapping, the file is read
+     * through a reader instead. Line terminators are not included.
+     *
+     * @param path      The path to the file, which is created if it does not exist.
+     * @param consumer  The consumer of the lines.
+     * @throws IOException
+     */
+    public static void loadLines(String path, Consumer<CharSequence> consumer) throws IOException {
+        createIfMissing(path);
+        if (UNMAPPER == null) {
+            try (Stream<String> lines = Files.lines(Path.of(path))) {
+                lines.forEachOrdered(consumer);
+            }
+            return;
+        }
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File too large to be mapped: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        final MappedLine.Mapping mapping = new MappedLine.Mapping(buffer);
+        try {
+            consumeLines(buffer, mapping, consumer);
+        } finally {
+            UNMAPPER.accept(mapping.release());
+        }
+    }
+
+    private static void consumeLines(ByteBuffer buffer, MappedLine.Mapping mapping, Consumer<CharSequence> consumer)
+            throws IOException {
+        final int size = buffer.limit();
+        final ByteBuffer reader = buffer.duplicate();
+        /* line breaks are searched in chunks copied out in bulk, which is much faster than reading byte by byte */
+        final byte[] chunk = new byte[MAPPED_CHUNK_SIZE];
+        int lineStart = 0;
+        boolean isAscii = true;
+        for (int chunkStart = 0; chunkStart < size; chunkStart += chunk.length) {
+            final int chunkLength = Math.min(chunk.length, size - chunkStart);
+            reader.get(chunk, 0, chunkLength);
+            for (int i = 0; i < chunkLength; i++) {
+                if (chunk[i] == '\n') {
+                    consumeLine(buffer, mapping, lineStart, chunkStart + i, isAscii, consumer);
+                    lineStart = chunkStart + i + 1;
+                    isAscii = true;
+                } else if (chunk[i] < 0) {
+                    isAscii = false;
+                }
+            }
+        }
+        if (lineStart < size) {
+            consumeLine(buffer, mapping, lineStart, size, isAscii, consumer);
+        }
+    }
+
+    private static void consumeLine(ByteBuffer buffer, MappedLine.Mapping mapping, int start, int end,
+            boolean isAscii, Consumer<CharSequence> consumer) throws IOException {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        if (isAscii) {
+            consumer.accept(new MappedLine(mapping, start, end - start));
+        } else {
+            /* malformed input is reported as Files.lines does, instead of being replaced */
+            final ByteBuffer bytes = buffer.duplicate().position(start).limit(end);
+            consumer.accept(StandardCharsets.UTF_8.newDecoder().decode(bytes).toString());
+        }
+    }
+
+    /**
+     * Returns a function unmapping a mapped buffer through <code>sun.misc.Unsafe</code>, which is the only way
+     * to release a mapping before the buffer is garbage-collected, or null if it is not available.
+     */
+    private static Consumer<ByteBuffer> findUnmapper() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            final Object unsafe = unsafeField.get(null);
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> {
+                try {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void createIfMissing(String path) throws IOException {
         File file = new File(path);
         if (!file.exists()) {
             file.getParentFile().mkdirs();
             file.createNewFile();
         }
-        return Files.lines(Path.of(path));
     }
 }
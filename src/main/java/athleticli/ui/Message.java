@@ -10,6 +10,8 @@ public class Message {
     public static final String MESSAGE_BYE = "Bye. Hope to see you again soon!";
     public static final String[] MESSAGE_HELLO = {"Hello! I'm AthletiCLI!", "What can I do for you?"};
     public static final String MESSAGE_SAVE = "File saved successfully!";
+    public static final String MESSAGE_SAVE_FILES = "Updated files: %s";
+    public static final String MESSAGE_SAVE_NO_CHANGES = "No changes to save.";
     public static final String MESSAGE_DURATION_MISSING =
             "Please specify the activity duration using \"duration/\"!";
     public static final String MESSAGE_DISTANCE_MISSING =
@@ -77,6 +79,7 @@ public class Message {
             "The datetime must be valid and in the format \"yyyy-MM-dd HH:mm\"!";
     public static final String MESSAGE_DATE_INVALID =
             "The date must be valid and in the format \"yyyy-MM-dd\"!";
+    public static final String MESSAGE_DATE_RANGE_INVALID = "The end date cannot be before the start date!";
     public static final String MESSAGE_CALORIES_INVALID =
             "The calories burned must be a non-negative integer!";
     public static final String MESSAGE_SPORT_INVALID = "The sport of an activity must be one of the following: " +
@@ -243,7 +246,7 @@ public class Message {
     public static final String HELP_DELETE_ACTIVITY = CommandName.COMMAND_ACTIVITY_DELETE
             + " INDEX";
     public static final String HELP_LIST_ACTIVITY = CommandName.COMMAND_ACTIVITY_LIST
-            + " [-d]";
+            + " [-d] [--page PAGE] [--limit LIMIT]";
     public static final String HELP_EDIT_ACTIVITY = CommandName.COMMAND_ACTIVITY_EDIT
             + " INDEX [caption/CAPTION] [duration/DURATION] [distance/DISTANCE] [datetime/DATETIME]";
     public static final String HELP_EDIT_RUN = CommandName.COMMAND_RUN_EDIT
@@ -269,7 +272,8 @@ public class Message {
             + " INDEX [calories/CALORIES] [protein/PROTEIN] [carb/CARB] [fat/FAT] [datetime/DATETIME]";
     public static final String HELP_DELETE_DIET = CommandName.COMMAND_DIET_DELETE
             + " INDEX";
-    public static final String HELP_LIST_DIET = CommandName.COMMAND_DIET_LIST;
+    public static final String HELP_LIST_DIET = CommandName.COMMAND_DIET_LIST
+            + " [--page PAGE] [--limit LIMIT]";
     public static final String HELP_FIND_DIET = CommandName.COMMAND_DIET_FIND
             + " DATE";
     public static final String HELP_SET_DIET_GOAL = CommandName.COMMAND_DIET_GOAL_SET
@@ -281,13 +285,14 @@ public class Message {
             + " INDEX";
     public static final String HELP_ADD_SLEEP = CommandName.COMMAND_SLEEP_ADD
             + " start/START end/END";
-    public static final String HELP_LIST_SLEEP = CommandName.COMMAND_SLEEP_LIST;
+    public static final String HELP_LIST_SLEEP = CommandName.COMMAND_SLEEP_LIST
+            + " [--page PAGE] [--limit LIMIT]";
     public static final String HELP_DELETE_SLEEP = CommandName.COMMAND_SLEEP_DELETE
             + " INDEX";
     public static final String HELP_EDIT_SLEEP = CommandName.COMMAND_SLEEP_EDIT
             + " INDEX start/START end/END";
     public static final String HELP_FIND_SLEEP = CommandName.COMMAND_SLEEP_FIND
-            + " DATE";
+            + " DATE | start/DATETIME end/DATETIME";
     
     public static final String HELP_SET_SLEEP_GOAL = CommandName.COMMAND_SLEEP_GOAL_SET
             + " type/TYPE period/PERIOD target/TARGET";
@@ -296,11 +301,13 @@ public class Message {
     public static final String HELP_LIST_SLEEP_GOAL = CommandName.COMMAND_SLEEP_GOAL_LIST;
 
     public static final String HELP_SAVE = CommandName.COMMAND_SAVE;
+    public static final String HELP_SWITCH_PROFILE = CommandName.COMMAND_SWITCH_PROFILE
+            + " PROFILE";
     public static final String HELP_BYE = CommandName.COMMAND_BYE;
     public static final String HELP_HELP = CommandName.COMMAND_HELP
             + " [COMMAND]";
     public static final String HELP_FIND = CommandName.COMMAND_FIND
-            + " DATE";
+            + " DATE [END_DATE]";
     public static final String HELP_DETAILS =
             "Please check our user guide (https://ay2324s1-cs2113-t17-1.github.io/tp/) for details.";
     public static final String ACTIVITY_STORAGE_INVALID_INDICATOR = "Invalid activity indicator, file corrupted.";
@@ -322,4 +329,19 @@ public class Message {
             "the activity you are trying to edit!";
     public static final String MESSAGE_DATE_FUTURE =
             "I like your optimism, but you cannot track events in the future!";
+    public static final String MESSAGE_PAGE_INVALID = "The page number and the limit must be positive integers!";
+    public static final String MESSAGE_PAGE_OUT_OF_RANGE = "This page does not exist, there are only %d pages!";
+    public static final String MESSAGE_PAGE_SUMMARY = "Showing %d to %d of %d.";
+    public static final String MESSAGE_BATCH_FILE_UNREADABLE = "Cannot read the batch file: %s";
+    public static final String MESSAGE_BATCH_LINE_FAILED = "Line %d: %s";
+    public static final String MESSAGE_USAGE = "Usage: AthletiCLI [--batch FILE | --serve PORT]";
+    public static final String MESSAGE_SERVER_STARTED = "Serving on http://localhost:%d/";
+    public static final String MESSAGE_SERVER_PORT_INVALID = "Cannot serve on port %s";
+    public static final String MESSAGE_SERVER_METHOD = "This command only accepts %s requests.";
+    public static final String MESSAGE_SERVER_FORBIDDEN = "Only local tools may send requests, not web pages.";
+    public static final String MESSAGE_PROFILE_SWITCHED = "Switched to the profile %s.";
+    public static final String MESSAGE_PROFILE_CURRENT = "You are already using the profile %s.";
+    public static final String MESSAGE_PROFILE_INVALID =
+            "Please specify the profile with letters, digits, \"-\" and \"_\" only!";
+    public static final String MESSAGE_PROFILE_BATCH = "The profile cannot be switched in the batch mode.";
 }
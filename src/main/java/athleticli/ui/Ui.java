@@ -1,8 +1,16 @@
 package athleticli.ui;
 
+import static athleticli.common.Config.OUTPUT_BUFFER_SIZE;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
 import java.io.InputStream;
-import java.io.PrintStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.util.Scanner;
+import java.util.stream.Stream;
 
 /**
  * Defines the behavior of the CLI.
@@ -10,29 +18,48 @@ import java.util.Scanner;
 public class Ui {
     private static Ui uiInstance;
     private final Scanner in;
-    private final PrintStream out;
+    private final PrintWriter out;
+    private final boolean isFlushedPerResponse;
 
     /**
      * Constructs a <code>Ui</code> object, whose input <code>in</code>
      * and output <code>out</code> is the standard input and the standard
      * output, respectively.
+     * The standard output is written directly instead of through <code>System.out</code>,
+     * which would flush after every line.
      */
     private Ui() {
-        this(System.in, System.out);
+        this(System.in, new FileOutputStream(FileDescriptor.out));
     }
 
     /**
      * Constructs a <code>Ui</code> object, whose input is an <code>InputStream</code>
-     * object <code>in</code> and output is an <code>PrintStream</code> object <code>out</code>.
+     * object <code>in</code> and output is an <code>OutputStream</code> object <code>out</code>.
+     * The output is buffered, and only flushed after each response and before reading the user's input.
      *
      * @param in    The <code>InputStream</code> accepting the user's input.
-     * @param out   The <code>PrintStream</code> displaying the program's output.
+     * @param out   The <code>OutputStream</code> displaying the program's output.
      */
-    private Ui(InputStream in, PrintStream out) {
+    public Ui(InputStream in, OutputStream out) {
+        this(in, out, true);
+    }
+
+    /**
+     * Constructs a <code>Ui</code> object, whose input is an <code>InputStream</code>
+     * object <code>in</code> and output is an <code>OutputStream</code> object <code>out</code>.
+     * The output is buffered, and is flushed before reading the user's input, when {@link #flush()} is called,
+     * and after each response only if <code>isFlushedPerResponse</code> is true.
+     *
+     * @param in                    The <code>InputStream</code> accepting the user's input.
+     * @param out                   The <code>OutputStream</code> displaying the program's output.
+     * @param isFlushedPerResponse  Whether the output is flushed after each response.
+     */
+    public Ui(InputStream in, OutputStream out, boolean isFlushedPerResponse) {
         assert in != null : "Input stream `in` should not be null";
-        assert out != null : "Print stream `out` should not be null";
+        assert out != null : "Output stream `out` should not be null";
         this.in = new Scanner(in);
-        this.out = out;
+        this.out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out), OUTPUT_BUFFER_SIZE), false);
+        this.isFlushedPerResponse = isFlushedPerResponse;
     }
 
     /**
@@ -54,6 +81,7 @@ public class Ui {
      */
     public String getUserCommand() {
         out.print(Message.PROMPT);
+        out.flush();
         return in.nextLine();
     }
 
@@ -69,6 +97,31 @@ public class Ui {
             out.println(Message.PREFIX_MESSAGE + message);
         }
         out.println(Message.LINE);
+        if (isFlushedPerResponse) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Shows the <code>messages</code> in a beautiful format, each as soon as it is generated.
+     *
+     * @param messages  The messages to be shown.
+     */
+    public void showMessages(Stream<String> messages) {
+        assert messages != null : "Messages should not be null";
+        out.print(Message.LINE);
+        messages.forEachOrdered(message -> out.println(Message.PREFIX_MESSAGE + message));
+        out.println(Message.LINE);
+        if (isFlushedPerResponse) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Writes out all buffered output.
+     */
+    public void flush() {
+        out.flush();
     }
 
     /**
@@ -0,0 +1,90 @@
+package athleticli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import athleticli.data.Data;
+import athleticli.ui.Message;
+import athleticli.ui.Ui;
+
+/**
+ * Tests the execution of command files by <code>BatchRunner</code>.
+ */
+class BatchRunnerTest {
+    private Data data;
+    private ByteArrayOutputStream output;
+    private Ui ui;
+    private BatchRunner runner;
+    @TempDir
+    Path directory;
+    private Path file;
+
+    @BeforeEach
+    void setup() {
+        data = new Data();
+        output = new ByteArrayOutputStream();
+        ui = new Ui(new ByteArrayInputStream(new byte[0]), output, false);
+        runner = new BatchRunner(data, ui);
+        file = directory.resolve("commands.txt");
+    }
+
+    private String getOutput() {
+        ui.flush();
+        return output.toString();
+    }
+
+    @Test
+    void executeAll_validCommands_allExecutedInOrder() throws IOException {
+        Files.writeString(file, "add-sleep start/2021-09-01 22:00 end/2021-09-02 06:00\n\n"
+                + "add-sleep start/2021-09-02 22:00 end/2021-09-03 06:00\n");
+        assertEquals(AthletiCLI.EXIT_SUCCESS, runner.executeAll(file));
+        assertEquals(2, data.getSleeps().size());
+    }
+
+    @Test
+    void executeAll_invalidLine_failureReportedAndOthersExecuted() throws IOException {
+        Files.writeString(file, "add-sleep start/2021-09-01 22:00 end/2021-09-02 06:00\n"
+                + "add-sleep start/2021-09-32 22:00 end/2021-09-07 06:00\n"
+                + "unknown-command\n"
+                + "add-sleep start/2021-09-02 22:00 end/2021-09-03 06:00\n");
+        assertEquals(AthletiCLI.EXIT_COMMAND_FAILED, runner.executeAll(file));
+        assertEquals(2, data.getSleeps().size());
+        assertTrue(getOutput().contains("Line 2: OOPS!!! "));
+        assertTrue(getOutput().contains("Line 3: OOPS!!! "));
+        assertFalse(getOutput().contains("Line 1:"));
+    }
+
+    @Test
+    void executeAll_byeCommand_laterLinesNotExecuted() throws IOException {
+        Files.writeString(file, "add-sleep start/2021-09-01 22:00 end/2021-09-02 06:00\nbye\n"
+                + "add-sleep start/2021-09-02 22:00 end/2021-09-03 06:00\n");
+        assertEquals(AthletiCLI.EXIT_SUCCESS, runner.executeAll(file));
+        assertEquals(1, data.getSleeps().size());
+    }
+
+    @Test
+    void executeAll_switchProfile_rejected() throws IOException {
+        Files.writeString(file, "switch-profile alice\n"
+                + "add-sleep start/2021-09-01 22:00 end/2021-09-02 06:00\n");
+        assertEquals(AthletiCLI.EXIT_COMMAND_FAILED, runner.executeAll(file));
+        assertEquals(1, data.getSleeps().size());
+        assertTrue(getOutput().contains("Line 1: OOPS!!! " + Message.MESSAGE_PROFILE_BATCH));
+    }
+
+    @Test
+    void run_missingFile_fileUnreadableWithoutLoading() {
+        assertEquals(AthletiCLI.EXIT_FILE_UNREADABLE, runner.run(file));
+        assertTrue(getOutput().contains("Cannot read the batch file"));
+    }
+}
@@ -0,0 +1,132 @@
+package athleticli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import athleticli.data.Data;
+import athleticli.ui.Message;
+
+/**
+ * Tests the JSON endpoints of <code>CommandServer</code> on localhost.
+ */
+class CommandServerTest {
+    private static final String ADD_SLEEP = "start/2021-09-01 22:00 end/2021-09-02 06:00";
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Data data;
+    private CommandServer server;
+
+    @BeforeEach
+    void setup() throws IOException {
+        data = new Data();
+        server = new CommandServer(data, 0);
+        server.start();
+    }
+
+    @AfterEach
+    void teardown() {
+        server.stop();
+    }
+
+    private HttpResponse<String> get(String commandWord, String arguments) throws Exception {
+        final URI uri = URI.create("http://localhost:" + server.getPort() + "/" + commandWord + "?args="
+                + URLEncoder.encode(arguments, StandardCharsets.UTF_8));
+        return client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String commandWord, String arguments) throws Exception {
+        final URI uri = URI.create("http://localhost:" + server.getPort() + "/" + commandWord);
+        return client.send(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString(arguments)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void post_addCommand_recordAdded() throws Exception {
+        final HttpResponse<String> response = post("add-sleep", ADD_SLEEP);
+        assertEquals(CommandServer.STATUS_OK, response.statusCode());
+        assertTrue(response.body().startsWith("{\"messages\":[\"" + Message.MESSAGE_SLEEP_ADDED + "\""));
+        assertEquals(1, data.getSleeps().size());
+    }
+
+    @Test
+    void get_listAndFindCommands_messagesReturned() throws Exception {
+        post("add-sleep", ADD_SLEEP);
+        assertTrue(get("list-sleep", "").body().contains("September 1, 2021 at 10:00 PM"));
+        assertTrue(get("find-sleep", "2021-09-01").body().contains("September 1, 2021 at 10:00 PM"));
+        assertEquals(CommandServer.STATUS_OK, get("list-sleep-goal", "").statusCode());
+    }
+
+    @Test
+    void get_invalidArguments_badRequest() throws Exception {
+        final HttpResponse<String> response = get("find-sleep", "2021-13-01");
+        assertEquals(CommandServer.STATUS_BAD_REQUEST, response.statusCode());
+        assertTrue(response.body().startsWith("{\"error\":"));
+    }
+
+    @Test
+    void request_commandNotServed_notFound() throws Exception {
+        assertEquals(CommandServer.STATUS_NOT_FOUND, get("unknown", "").statusCode());
+        assertEquals(CommandServer.STATUS_NOT_FOUND, post("delete-sleep", "1").statusCode());
+    }
+
+    @Test
+    void request_wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(CommandServer.STATUS_METHOD_NOT_ALLOWED, get("add-sleep", ADD_SLEEP).statusCode());
+        assertEquals(CommandServer.STATUS_METHOD_NOT_ALLOWED, post("list-sleep", "").statusCode());
+        assertEquals(0, data.getSleeps().size());
+    }
+
+    @Test
+    void request_originHeader_forbidden() throws Exception {
+        final URI uri = URI.create("http://localhost:" + server.getPort() + "/add-sleep");
+        final HttpRequest request = HttpRequest.newBuilder(uri).header("Origin", "http://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString(ADD_SLEEP)).build();
+        assertEquals(CommandServer.STATUS_FORBIDDEN,
+                client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(0, data.getSleeps().size());
+    }
+
+    @Test
+    void request_foreignHost_forbidden() throws Exception {
+        assertTrue(getStatusLine("example.com:" + server.getPort()).contains(" 403 "));
+        assertTrue(getStatusLine("localhost:" + (server.getPort() + 1)).contains(" 403 "));
+        assertTrue(getStatusLine("127.0.0.1:" + server.getPort()).contains(" 200 "));
+    }
+
+    /**
+     * Sends a request to list sleeps with a <code>Host</code> header the HTTP client would not allow.
+     */
+    private String getStatusLine(String host) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            final OutputStream output = socket.getOutputStream();
+            output.write(("GET /list-sleep HTTP/1.1\r\nHost: " + host + "\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            final InputStream input = socket.getInputStream();
+            final String response = new String(input.readAllBytes(), StandardCharsets.US_ASCII);
+            return response.substring(0, response.indexOf("\r\n"));
+        }
+    }
+
+    @Test
+    void appendJsonString_specialCharacters_escaped() {
+        final StringBuilder json = new StringBuilder();
+        CommandServer.appendJsonString(json, "a\"b\\c\nd\u0001");
+        assertEquals("\"a\\\"b\\\\c\\nd\\u0001\"", json.toString());
+    }
+}
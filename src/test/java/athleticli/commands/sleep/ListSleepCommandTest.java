@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import athleticli.commands.Page;
 import athleticli.data.Data;
 import athleticli.data.sleep.Sleep;
 import athleticli.data.sleep.SleepList;
@@ -45,6 +46,27 @@ public class ListSleepCommandTest {
         assertArrayEquals(expected, actual);
     }
 
+    @Test
+    public void testExecuteWithPage() {
+        ListSleepCommand command = new ListSleepCommand(new Page(2, 1));
+        String[] expected = {
+            "Here are the sleep records in your list:\n",
+            "2. [Sleep] | Date: 2023-10-18 | Start Time: October 18, 2023 at 10:00 PM " +
+                "| End Time: October 19, 2023 at 6:00 AM | Sleeping Duration: 8 Hours ",
+            "Showing 2 to 2 of 2."
+        };
+        assertArrayEquals(expected, command.execute(data));
+    }
+
+    @Test
+    public void testExecuteWithPageOutOfRange() {
+        ListSleepCommand command = new ListSleepCommand(new Page(2, 5));
+        String[] expected = {
+            "This page does not exist, there are only 1 pages!"
+        };
+        assertArrayEquals(expected, command.execute(data));
+    }
+
     @Test
     public void testExecuteWithEmptyList() {
         data.setSleeps(new SleepList()); 
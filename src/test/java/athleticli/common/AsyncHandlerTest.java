@@ -0,0 +1,73 @@
+package athleticli.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests <code>AsyncHandler</code>.
+ */
+class AsyncHandlerTest {
+    /**
+     * Collects the messages it receives, and remembers whether it was closed.
+     */
+    private static class CollectingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private boolean isClosed = false;
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public synchronized void close() {
+            isClosed = true;
+        }
+    }
+
+    @Test
+    void close_recordsQueued_writesAllInOrder() {
+        final CollectingHandler delegate = new CollectingHandler();
+        final AsyncHandler handler = new AsyncHandler(delegate, 10_000);
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+            expected.add("record " + i);
+        }
+        handler.close();
+        assertEquals(expected, delegate.messages);
+        assertTrue(delegate.isClosed);
+    }
+
+    @Test
+    void publish_closed_ignored() {
+        final CollectingHandler delegate = new CollectingHandler();
+        final AsyncHandler handler = new AsyncHandler(delegate, 10);
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "late"));
+        assertTrue(delegate.messages.isEmpty());
+    }
+
+    @Test
+    void publish_belowLevel_ignored() {
+        final CollectingHandler delegate = new CollectingHandler();
+        final AsyncHandler handler = new AsyncHandler(delegate, 10);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINEST, "dump"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.close();
+        assertEquals(List.of("info"), delegate.messages);
+    }
+}
@@ -0,0 +1,67 @@
+package athleticli.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import athleticli.exceptions.AthletiException;
+import athleticli.parser.Parser;
+
+/**
+ * Tests the triggers of <code>AutosaveScheduler</code> on data that counts its saves instead of writing files.
+ */
+class AutosaveSchedulerTest {
+    private final Semaphore saves = new Semaphore(0);
+    private final Data data = new Data() {
+        @Override
+        public synchronized ArrayList<String> save() {
+            saves.release();
+            return new ArrayList<>();
+        }
+    };
+    private AutosaveScheduler scheduler;
+
+    @AfterEach
+    void teardown() {
+        scheduler.stop();
+    }
+
+    private void addDiet() throws AthletiException {
+        Parser.parseCommand("add-diet calories/1 protein/1 carb/1 fat/1 datetime/2023-10-10 10:00")
+                .executeLocked(data, messages -> messages.forEach(message -> { }));
+    }
+
+    @Test
+    void start_mutationThresholdReached_saved() throws Exception {
+        scheduler = new AutosaveScheduler(data, 0, 3);
+        scheduler.start();
+        addDiet();
+        addDiet();
+        assertEquals(0, saves.availablePermits());
+        addDiet();
+        assertTrue(saves.tryAcquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void start_intervalElapsed_saved() throws Exception {
+        scheduler = new AutosaveScheduler(data, 1, 0);
+        scheduler.start();
+        assertTrue(saves.tryAcquire(2, 5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void stop_mutationThresholdReached_notSaved() throws Exception {
+        scheduler = new AutosaveScheduler(data, 0, 1);
+        scheduler.start();
+        scheduler.stop();
+        addDiet();
+        scheduler.requestSave();
+        assertEquals(0, saves.availablePermits());
+    }
+}
@@ -0,0 +1,65 @@
+package athleticli.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CircularArrayListTest {
+    @Test
+    void add_frontAndBack_orderKept() {
+        final CircularArrayList<Integer> list = new CircularArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            list.add(0, -i);
+            list.add(i);
+        }
+        assertEquals(80, list.size());
+        assertEquals(Integer.valueOf(-39), list.get(0));
+        assertEquals(Integer.valueOf(39), list.get(79));
+        assertEquals(Integer.valueOf(0), list.get(39));
+    }
+
+    @Test
+    void mutations_random_sameAsArrayList() {
+        final Random random = new Random(7);
+        final CircularArrayList<Integer> list = new CircularArrayList<>();
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            final int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                final int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation < 8) {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (operation < 9) {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), list.set(index, -i));
+            } else {
+                list.add(i);
+                expected.add(i);
+            }
+        }
+        assertEquals(expected, list);
+        expected.sort(Comparator.reverseOrder());
+        list.sort(Comparator.reverseOrder());
+        assertEquals(expected, list);
+        list.clear();
+        assertEquals(List.of(), list);
+    }
+
+    @Test
+    void get_outOfBounds_exceptionThrown() {
+        final CircularArrayList<String> list = new CircularArrayList<>();
+        list.add("a");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+    }
+}
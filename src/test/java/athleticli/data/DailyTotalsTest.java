@@ -0,0 +1,70 @@
+package athleticli.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DailyTotalsTest {
+    private static final LocalDate DATE = LocalDate.of(2023, 10, 15);
+    private DailyTotals totals;
+
+    @BeforeEach
+    void setUp() {
+        totals = new DailyTotals();
+        totals.add(DATE, 100);
+        totals.add(DATE, 20);
+        totals.add(DATE.minusDays(6), 3);
+        totals.add(DATE.minusDays(7), 4000);
+    }
+
+    @Test
+    void sum_singleDay_totalOfDay() {
+        assertEquals(120, totals.sum(DATE, DATE));
+        assertEquals(0, totals.sum(DATE.minusDays(1), DATE.minusDays(1)));
+    }
+
+    @Test
+    void sum_range_inclusiveOfBothEnds() {
+        assertEquals(123, totals.sum(DATE.minusDays(6), DATE));
+        assertEquals(4123, totals.sum(DATE.minusDays(7), DATE));
+    }
+
+    @Test
+    void sum_endBeforeStart_zero() {
+        assertEquals(0, totals.sum(DATE, DATE.minusDays(7)));
+    }
+
+    @Test
+    void add_negativeValue_takesBackValue() {
+        totals.add(DATE.minusDays(7), -4000);
+        assertEquals(123, totals.sum(LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31)));
+    }
+
+    @Test
+    void sum_rangeBeyondDaysCovered_clamped() {
+        assertEquals(4123, totals.sum(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(0, totals.sum(LocalDate.MIN, DATE.minusYears(1)));
+        assertEquals(0, new DailyTotals().sum(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    void add_datesFarApart_treeGrownBothWays() {
+        totals.add(DATE.minusYears(30), 5);
+        totals.add(DATE.plusYears(1), 60000);
+        totals.add(LocalDate.of(0, 1, 1), 700000);
+        assertEquals(4123, totals.sum(DATE.minusDays(7), DATE));
+        assertEquals(4128, totals.sum(DATE.minusYears(30), DATE));
+        assertEquals(764128, totals.sum(LocalDate.MIN, LocalDate.MAX));
+        totals.clear();
+        assertEquals(0, totals.sum(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    void add_datesSpanningTooManyYears_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> totals.add(LocalDate.of(-20000, 12, 31), 1));
+    }
+}
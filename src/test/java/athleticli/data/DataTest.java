@@ -0,0 +1,154 @@
+package athleticli.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import athleticli.commands.Command;
+import athleticli.common.Config;
+import athleticli.exceptions.AthletiException;
+import athleticli.parser.Parser;
+
+/**
+ * Tests the locking of <code>Data</code> under concurrent commands.
+ */
+class DataTest {
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int ADDS_PER_WRITER = 100;
+    private static final String DATE = "2023-10-10";
+    @TempDir
+    Path directory;
+    private Data data;
+
+    @BeforeEach
+    void setup() {
+        data = new Data();
+    }
+
+    private void execute(String rawUserInput) throws AthletiException {
+        final Command command = Parser.parseCommand(rawUserInput);
+        command.executeLocked(data, messages -> messages.forEach(message -> { }));
+    }
+
+    @Test
+    void executeLocked_concurrentReadersAndWriters_noUpdateLost() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT + 1);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean isWriting = new AtomicBoolean(true);
+        final List<Future<?>> writers = new ArrayList<>();
+        final List<Future<?>> others = new ArrayList<>();
+        try {
+            for (int i = 0; i < WRITER_COUNT; i++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < ADDS_PER_WRITER; j++) {
+                        execute("add-diet calories/1 protein/1 carb/1 fat/1 datetime/" + DATE + " 10:00");
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < READER_COUNT; i++) {
+                others.add(executor.submit(() -> {
+                    start.await();
+                    while (isWriting.get()) {
+                        execute("list-diet");
+                        execute("find-diet " + DATE);
+                        execute("list-diet-goal");
+                        execute("find " + DATE);
+                    }
+                    return null;
+                }));
+            }
+            others.add(executor.submit(() -> {
+                start.await();
+                while (isWriting.get()) {
+                    data.withReadLock(() -> data.getDiets().takeSnapshot());
+                }
+                return null;
+            }));
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(1, TimeUnit.MINUTES);
+            }
+            isWriting.set(false);
+            for (Future<?> other : others) {
+                other.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            isWriting.set(false);
+            executor.shutdownNow();
+        }
+        assertEquals(WRITER_COUNT * ADDS_PER_WRITER, data.getDiets().size());
+        assertEquals(WRITER_COUNT * ADDS_PER_WRITER, data.getDiets().find(LocalDate.parse(DATE)).size());
+    }
+
+    @Test
+    void withReadLock_twoReaders_runConcurrently() throws Exception {
+        final CountDownLatch bothInside = new CountDownLatch(2);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final List<Future<Boolean>> readers = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                readers.add(executor.submit(() -> data.withReadLock(() -> {
+                    bothInside.countDown();
+                    try {
+                        return bothInside.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        return false;
+                    }
+                })));
+            }
+            for (Future<Boolean> reader : readers) {
+                assertTrue(reader.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void save_nothingModified_nothingWritten() throws IOException {
+        assertTrue(data.save().isEmpty());
+    }
+
+    @Test
+    void save_laterListNotWritten_earlierListsStaySaved() throws Exception {
+        data = new Data(directory.toString());
+        data.load();
+        execute("add-diet calories/1 protein/1 carb/1 fat/1 datetime/" + DATE + " 10:00");
+        execute("add-sleep start/" + DATE + " 22:00 end/" + DATE + " 23:00");
+        /* a non-empty directory cannot be replaced by the sleep file */
+        final Path sleepFile = directory.resolve(Path.of(Config.PATH_SLEEP).getFileName());
+        Files.delete(sleepFile);
+        Files.createDirectories(sleepFile.resolve("blocker"));
+        assertThrows(IOException.class, () -> data.save());
+        assertFalse(data.getDiets().isDirty());
+        assertTrue(data.getSleeps().isDirty());
+
+        Files.delete(sleepFile.resolve("blocker"));
+        Files.delete(sleepFile);
+        final Data reloaded = new Data(directory.toString());
+        reloaded.load();
+        assertEquals(1, reloaded.getDiets().size());
+        assertEquals(1, reloaded.getSleeps().size());
+    }
+}
@@ -0,0 +1,97 @@
+package athleticli.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import athleticli.commands.SwitchProfileCommand;
+import athleticli.common.Config;
+import athleticli.exceptions.AthletiException;
+import athleticli.ui.Message;
+
+/**
+ * Tests the LRU cache of <code>ProfileManager</code> on data that records its loads and saves instead of
+ * reading and writing files.
+ */
+class ProfileManagerTest {
+    private static final String FAILING_PROFILE = "broken";
+    private final List<String> loadedProfiles = new ArrayList<>();
+    private final List<String> savedProfiles = new ArrayList<>();
+    private final Data defaultData = new Data();
+    private final ProfileManager profileManager = new ProfileManager(defaultData, 2) {
+        @Override
+        protected Data createData(String profile) {
+            return new Data() {
+                @Override
+                public void load() throws AthletiException {
+                    if (profile.equals(FAILING_PROFILE)) {
+                        throw new AthletiException(Message.MESSAGE_IO_EXCEPTION);
+                    }
+                    loadedProfiles.add(profile);
+                }
+
+                @Override
+                public synchronized ArrayList<String> save() {
+                    savedProfiles.add(profile);
+                    return new ArrayList<>();
+                }
+            };
+        }
+    };
+
+    @Test
+    void switchTo_recentlyUsedProfile_notReloaded() throws AthletiException {
+        assertTrue(profileManager.switchTo("alice"));
+        final Data alice = profileManager.getCurrentData();
+        profileManager.switchTo(ProfileManager.DEFAULT_PROFILE);
+        assertSame(defaultData, profileManager.getCurrentData());
+        assertFalse(profileManager.switchTo("alice"));
+        assertSame(alice, profileManager.getCurrentData());
+        assertEquals(List.of("alice"), loadedProfiles);
+        assertTrue(savedProfiles.isEmpty());
+    }
+
+    @Test
+    void switchTo_cacheFull_leastRecentlyUsedSavedAndDropped() throws AthletiException {
+        profileManager.switchTo("alice");
+        profileManager.switchTo(ProfileManager.DEFAULT_PROFILE);
+        profileManager.switchTo("bob");
+        assertEquals(List.of("alice"), savedProfiles);
+        assertEquals(2, profileManager.getLoadedData().size());
+        profileManager.switchTo("alice");
+        assertEquals(List.of("alice", "bob", "alice"), loadedProfiles);
+    }
+
+    @Test
+    void switchTo_loadFails_currentProfileKept() throws AthletiException {
+        profileManager.switchTo("alice");
+        assertThrows(AthletiException.class, () -> profileManager.switchTo(FAILING_PROFILE));
+        assertEquals("alice", profileManager.getCurrentProfile());
+        assertEquals(2, profileManager.getLoadedData().size());
+    }
+
+    @Test
+    void execute_switchProfileCommand_profileSwitched() throws AthletiException {
+        final SwitchProfileCommand command = new SwitchProfileCommand("alice", profileManager);
+        assertEquals(String.format(Message.MESSAGE_PROFILE_SWITCHED, "alice"), command.execute(defaultData)[0]);
+        assertEquals(String.format(Message.MESSAGE_PROFILE_CURRENT, "alice"), command.execute(defaultData)[0]);
+        assertEquals("alice", profileManager.getCurrentProfile());
+    }
+
+    @Test
+    void data_profileDirectory_listsStoredInDirectory() {
+        final String directory = ProfileManager.getDirectory("alice");
+        assertEquals(Path.of(Config.PROFILE_DIRECTORY, "alice").toString(), directory);
+        assertEquals(Path.of(directory, "diet.txt").toString(), new Data(directory).getDiets().getPath());
+        assertEquals(Config.PATH_DIET, new Data(ProfileManager.getDirectory(ProfileManager.DEFAULT_PROFILE))
+                .getDiets().getPath());
+    }
+}
@@ -0,0 +1,274 @@
+package athleticli.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import athleticli.exceptions.AthletiException;
+
+/**
+ * Tests the journaling of <code>StorableList</code>.
+ */
+class StorableListTest {
+    @TempDir
+    Path directory;
+    private Path path;
+
+    /**
+     * Stores plain strings so that the journal can be checked without any domain parser.
+     */
+    private static class StringList extends StorableList<String> {
+        StringList(String path) {
+            super(path);
+        }
+
+        @Override
+        public void sort() {
+            sort(Comparator.naturalOrder());
+        }
+
+        @Override
+        public String parse(CharSequence s) {
+            return s.toString();
+        }
+
+        @Override
+        public String unparse(String s) {
+            return s;
+        }
+    }
+
+    /**
+     * Orders strings by their first character only, so that unequal strings can be equal in the order.
+     */
+    private static class OrderedStringList extends StorableList<String> {
+        OrderedStringList(String path) {
+            super(path, Comparator.comparing(s -> s.charAt(0)));
+        }
+
+        @Override
+        public String parse(CharSequence s) {
+            return s.toString();
+        }
+
+        @Override
+        public String unparse(String s) {
+            return s;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("list.txt");
+    }
+
+    /**
+     * Returns the lines of a snapshot or journal other than the markers of snapshots.
+     */
+    private static List<String> readWithoutMarkers(Path file) throws IOException {
+        return Files.readAllLines(file).stream()
+                .filter(line -> !line.startsWith("SNAPSHOT "))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void load_journalAfterSnapshot_replaysMutations() throws AthletiException, IOException {
+        StringList list = new StringList(path.toString());
+        list.load();
+        list.add("b");
+        list.add("a c");
+        list.save();
+        list.add("d");
+        list.set(0, "e");
+        list.remove(1);
+        list.sort();
+
+        StringList reloaded = new StringList(path.toString());
+        reloaded.load();
+        assertEquals(List.of("d", "e"), reloaded);
+        assertEquals(List.of("b", "a c"), readWithoutMarkers(path));
+    }
+
+    @Test
+    void save_journalNotEmpty_truncatesJournal() throws AthletiException, IOException {
+        StringList list = new StringList(path.toString());
+        list.load();
+        list.add("a");
+        list.clear();
+        list.add("b");
+        Path journal = Path.of(path + ".journal");
+        assertEquals(3, Files.readAllLines(journal).size());
+        list.save();
+        assertTrue(readWithoutMarkers(journal).isEmpty());
+        assertEquals(List.of("b"), readWithoutMarkers(path));
+    }
+
+    @Test
+    void commit_mutatedWhileWriting_keepsLaterJournalRecords() throws AthletiException, IOException {
+        StringList list = new StringList(path.toString());
+        list.load();
+        list.add("a");
+        list.add("b");
+        final StorableList<String>.Snapshot snapshot = list.takeSnapshot();
+        list.add("c");
+        snapshot.write();
+        snapshot.commit();
+        assertEquals(List.of("a", "b"), readWithoutMarkers(path));
+        assertEquals(List.of("ADD 2 c"), readWithoutMarkers(Path.of(path + ".journal")));
+        assertTrue(list.isDirty());
+
+        StringList reloaded = new StringList(path.toString());
+        reloaded.load();
+        assertEquals(List.of("a", "b", "c"), reloaded);
+    }
+
+    @Test
+    void commit_notJournalingAndMutatedWhileWriting_journalingNotResumed() throws AthletiException, IOException {
+        StringList list = new StringList(path.toString());
+        list.load();
+        list.stopJournaling();
+        list.add("a");
+        final StorableList<String>.Snapshot snapshot = list.takeSnapshot();
+        list.add("b");
+        snapshot.write();
+        snapshot.commit();
+        list.add("c");
+        assertTrue(readWithoutMarkers(Path.of(path + ".journal")).isEmpty());
+        list.save();
+        assertEquals(List.of("a", "b", "c"), readWithoutMarkers(path));
+    }
+
+    @Test
+    void load_snapshotWrittenButJournalNotRewritten_recordsReplayedOnce() throws AthletiException, IOException {
+        StringList list = new StringList(path.toString());
+        list.load();
+        list.add("a");
+        list.add("b");
+        list.remove(0);
+        final StorableList<String>.Snapshot snapshot = list.takeSnapshot();
+        list.add("c");
+        /* the program dies after moving the snapshot into place, before the journal is rewritten */
+        snapshot.write();
+
+        StringList reloaded = new StringList(path.toString());
+        reloaded.load();
+        assertEquals(List.of("b", "c"), reloaded);
+        reloaded.save();
+        StringList reloadedAgain = new StringList(path.toString());
+        reloadedAgain.load();
+        assertEquals(List.of("b", "c"), reloadedAgain);
+    }
+
+    @Test
+    void load_snapshotTakenButNotWritten_allRecordsReplayed() throws AthletiException, IOException {
+        StringList list = new StringList(path.toString());
+        list.load();
+        list.add("a");
+        list.save();
+        list.add("b");
+        list.takeSnapshot();
+        list.add("c");
+
+        StringList reloaded = new StringList(path.toString());
+        reloaded.load();
+        assertEquals(List.of("a", "b", "c"), reloaded);
+    }
+
+    @Test
+    void load_snapshotWithoutMarker_wholeJournalReplayed() throws AthletiException, IOException {
+        Files.write(path, List.of("a"));
+        Files.write(Path.of(path + ".journal"), List.of("ADD 1 b"));
+        StringList list = new StringList(path.toString());
+        list.load();
+        assertEquals(List.of("a", "b"), list);
+    }
+
+    @Test
+    void isDirty_mutatedAfterLoad_dirtyUntilSaved() throws AthletiException, IOException {
+        StringList list = new StringList(path.toString());
+        list.load();
+        assertFalse(list.isDirty());
+        list.add("a");
+        assertTrue(list.isDirty());
+        list.save();
+        assertFalse(list.isDirty());
+        list.set(0, "b");
+        assertTrue(list.isDirty());
+    }
+
+    @Test
+    void isDirty_journalReplayed_dirty() throws AthletiException, IOException {
+        StringList list = new StringList(path.toString());
+        list.load();
+        list.add("a");
+        StringList reloaded = new StringList(path.toString());
+        reloaded.load();
+        assertTrue(reloaded.isDirty());
+    }
+
+    @Test
+    void addInOrder_randomItems_sameAsAddAndSort() {
+        final Random random = new Random(0);
+        final OrderedStringList list = new OrderedStringList(path.toString());
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final String item = (char) ('a' + random.nextInt(10)) + String.valueOf(i);
+            list.addInOrder(item);
+            expected.add(item);
+            expected.sort(Comparator.comparing(s -> s.charAt(0)));
+            assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    void setInOrder_randomItems_sameAsSetAndSort() {
+        final Random random = new Random(0);
+        final OrderedStringList list = new OrderedStringList(path.toString());
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.addInOrder((char) ('a' + random.nextInt(10)) + String.valueOf(i));
+        }
+        expected.addAll(list);
+        for (int i = 0; i < 500; i++) {
+            final int index = random.nextInt(list.size());
+            final String item = (char) ('a' + random.nextInt(10)) + "edited" + i;
+            final int newIndex = list.setInOrder(index, item);
+            expected.set(index, item);
+            expected.sort(Comparator.comparing(s -> s.charAt(0)));
+            assertEquals(expected, list);
+            assertEquals(item, list.get(newIndex));
+        }
+    }
+
+    @Test
+    void load_unsortedSnapshot_sortsBeforeReplayingJournal() throws AthletiException, IOException {
+        Files.write(path, List.of("c", "a", "b"));
+        final OrderedStringList list = new OrderedStringList(path.toString());
+        list.load();
+        assertEquals(List.of("a", "b", "c"), list);
+        list.addInOrder("b2");
+        final OrderedStringList reloaded = new OrderedStringList(path.toString());
+        reloaded.load();
+        assertEquals(List.of("a", "b", "b2", "c"), reloaded);
+    }
+
+    @Test
+    void add_notLoaded_doesNotJournal() {
+        StringList list = new StringList(path.toString());
+        list.add("a");
+        assertTrue(Files.notExists(Path.of(path + ".journal")));
+    }
+}
@@ -4,13 +4,21 @@ import athleticli.data.Goal.TimeSpan;
 import athleticli.exceptions.AthletiException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests the ActivityList class.
@@ -20,6 +28,8 @@ class ActivityListTest {
     private static final String CAPTION = "Sunday = Runday";
     private static final LocalTime DURATION = LocalTime.of(1, 24);
     private static final int DISTANCE = 18120;
+    @TempDir
+    Path directory;
     private ActivityList activityList;
     private Activity activityFirst;
     private Activity activitySecond;
@@ -47,6 +57,56 @@ class ActivityListTest {
         assertEquals(activityList.find(LocalDate.now().minusDays(1)).get(0), activityFirst);
     }
 
+    /**
+     * Tests the find method with a range of dates. It should return the activities within the range, latest first.
+     */
+    @Test
+    void find_dateRange_latestFirst() {
+        assertEquals(List.of(activitySecond, activityFirst),
+                activityList.find(LocalDate.now().minusDays(1), LocalDate.now()));
+        assertEquals(List.of(activityFirst),
+                activityList.find(LocalDate.now().minusDays(2), LocalDate.now().minusDays(1)));
+        assertEquals(List.of(), activityList.find(LocalDate.now(), LocalDate.now().minusDays(1)));
+    }
+
+    /**
+     * Tests the find method after an activity is edited in place and removed.
+     * The index should follow the changes to the list.
+     */
+    @Test
+    void find_editedAndRemoved_indexUpdated() {
+        activityFirst.setStartDateTime(activityFirst.getStartDateTime().minusDays(1));
+        activityList.set(0, activityFirst);
+        assertEquals(List.of(), activityList.find(LocalDate.now().minusDays(1)));
+        assertEquals(List.of(activityFirst), activityList.find(LocalDate.now().minusDays(2)));
+        activityList.remove(activityFirst);
+        assertEquals(List.of(), activityList.find(LocalDate.now().minusDays(2)));
+        activityList.clear();
+        assertEquals(List.of(), activityList.find(LocalDate.now()));
+    }
+
+    /**
+     * Tests the find method after activities are added and edited in order.
+     * Activities on the same date should be found in the order of the list.
+     */
+    @Test
+    void find_addedAndEditedInOrder_listOrderKept() {
+        activityList.sort();
+        LocalDateTime noon = LocalDate.now().minusDays(1).atTime(12, 0);
+        Activity morning = new Activity(CAPTION, DURATION, DISTANCE, noon.minusHours(3));
+        Activity evening = new Activity(CAPTION, DURATION, DISTANCE, noon.plusHours(6));
+        activityList.addInOrder(morning);
+        activityList.addInOrder(evening);
+        assertEquals(activityList.stream().filter(a -> a != activitySecond).collect(Collectors.toList()),
+                activityList.find(LocalDate.now().minusDays(1)));
+        morning.setStartDateTime(noon.plusHours(9));
+        int index = activityList.setInOrder(activityList.indexOf(morning), morning);
+        assertEquals(morning, activityList.get(index));
+        assertFalse(activityList.get(index - 1).getStartDateTime().isBefore(morning.getStartDateTime()));
+        assertEquals(activityList.stream().filter(a -> a != activitySecond).collect(Collectors.toList()),
+                activityList.find(LocalDate.now().minusDays(1)));
+    }
+
     /**
      * Tests the sort method. It should sort the activities in the list by date.
      */
@@ -93,6 +153,26 @@ class ActivityListTest {
         assertEquals(expected, actual);
     }
 
+    /**
+     * Tests the total distance after activities are edited in place, added and removed.
+     * The totals should follow the changes to the list.
+     */
+    @Test
+    void getTotalDistance_listChanged_totalUpdated() {
+        activityFirst.setDistance(DISTANCE + 1);
+        activityFirst.setStartDateTime(activityFirst.getStartDateTime().minusDays(7));
+        activityList.set(0, activityFirst);
+        assertEquals(DISTANCE, activityList.getTotalDistance(Activity.class, TimeSpan.WEEKLY));
+        assertEquals(2 * DISTANCE + 1, activityList.getTotalDistance(Activity.class, TimeSpan.MONTHLY));
+        Run run = new Run(CAPTION, DURATION, DISTANCE, LocalDateTime.now(), 0);
+        activityList.add(run);
+        assertEquals(DISTANCE, activityList.getTotalDistance(Run.class, TimeSpan.DAILY));
+        activityList.remove(run);
+        assertEquals(0, activityList.getTotalDistance(Run.class, TimeSpan.DAILY));
+        activityList.clear();
+        assertEquals(0, activityList.getTotalDistance(Activity.class, TimeSpan.YEARLY));
+    }
+
     /**
      * Tests the total duration calculation for activities within a week.
      */
@@ -175,4 +255,73 @@ class ActivityListTest {
         assertEquals(expected.getDistance(), actual.getDistance());
         assertEquals(expected.getStartDateTime(), actual.getStartDateTime());
     }
+
+    /**
+     * Loads the activities stored in a directory, with or without the binary snapshot.
+     */
+    private static ActivityList load(Path directory, boolean isSnapshotBinary) throws AthletiException {
+        ActivityList activities = new ActivityList(isSnapshotBinary);
+        activities.setDirectory(directory.toString());
+        activities.load();
+        return activities;
+    }
+
+    /**
+     * Tests that saving with the binary snapshot also writes the text file, which can then be loaded without it.
+     *
+     * @throws AthletiException If the activities cannot be loaded.
+     * @throws IOException If the activities cannot be saved.
+     */
+    @Test
+    void save_binarySnapshot_textFileWrittenToo() throws AthletiException, IOException {
+        ActivityList activities = load(directory, true);
+        activities.add(new Run("Morning Run", DURATION, DISTANCE, LocalDateTime.of(2023, 10, 1, 6, 0), 60));
+        activities.add(new Activity(CAPTION, DURATION, DISTANCE, LocalDateTime.of(2023, 10, 2, 6, 0)));
+        activities.save();
+
+        assertEquals(List.of(directory.resolve("activity.bin").toString(), directory.resolve("activity.txt")
+                .toString()), activities.getSnapshotPaths());
+        assertTrue(Files.exists(directory.resolve("activity.bin")));
+        assertEquals(2, load(directory, false).size());
+        assertEquals(2, load(directory, true).size());
+    }
+
+    /**
+     * Tests that the text file is imported if it has been saved after the binary snapshot.
+     *
+     * @throws AthletiException If the activities cannot be loaded.
+     * @throws IOException If the activities cannot be saved.
+     */
+    @Test
+    void load_textFileNewerThanBinarySnapshot_textFileImported() throws AthletiException, IOException {
+        ActivityList activities = load(directory, true);
+        activities.add(new Activity(CAPTION, DURATION, DISTANCE, LocalDateTime.of(2023, 10, 1, 6, 0)));
+        activities.save();
+        ActivityList textActivities = load(directory, false);
+        textActivities.add(new Activity(CAPTION, DURATION, DISTANCE, LocalDateTime.of(2023, 10, 2, 6, 0)));
+        textActivities.save();
+
+        assertEquals(List.of(directory.resolve("activity.txt").toString()), textActivities.getSnapshotPaths());
+        assertEquals(2, load(directory, true).size());
+    }
+
+    /**
+     * Tests that an activity edited in place after a snapshot is taken is written as it was when it was taken.
+     *
+     * @throws AthletiException If the activities cannot be loaded.
+     * @throws IOException If the activities cannot be saved.
+     */
+    @Test
+    void write_activityEditedAfterSnapshotTaken_writtenAsTaken() throws AthletiException, IOException {
+        ActivityList activities = load(directory, true);
+        Activity activity = new Activity(CAPTION, DURATION, DISTANCE, LocalDateTime.of(2023, 10, 1, 6, 0));
+        activities.add(activity);
+        ActivityList.Snapshot snapshot = activities.takeSnapshot();
+        activity.setCaption("Edited");
+        snapshot.write();
+        snapshot.commit();
+
+        assertEquals(CAPTION, load(directory, false).get(0).getCaption());
+        assertEquals(CAPTION, load(directory, true).get(0).getCaption());
+    }
 }
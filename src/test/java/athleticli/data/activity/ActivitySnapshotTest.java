@@ -0,0 +1,67 @@
+package athleticli.data.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import athleticli.exceptions.AthletiException;
+
+/**
+ * Tests the binary snapshot format of activities.
+ */
+class ActivitySnapshotTest {
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(2023, 10, 26, 6, 0);
+    private static final long SNAPSHOT_ID = 42;
+
+    /**
+     * Tests that every type of activity survives a round trip through the snapshot format.
+     *
+     * @throws AthletiException If the snapshot cannot be decoded.
+     */
+    @Test
+    void decode_encodedActivities_sameActivities() throws AthletiException {
+        ActivityList activities = new ActivityList();
+        activities.add(new Activity("Morning Walk", LocalTime.of(0, 30), 2000, DATE_TIME));
+        activities.add(new Run("Morning Run", LocalTime.of(1, 0, 5), 10000, DATE_TIME.minusDays(1), 60));
+        activities.add(new Cycle("Evening Ride", LocalTime.of(2, 0), 20000, DATE_TIME.minusDays(2), 1000));
+        activities.add(new Swim("Morning Run", LocalTime.of(0, 20), 1000, DATE_TIME.minusDays(3),
+                Swim.SwimmingStyle.BUTTERFLY));
+
+        ArrayList<Activity> decoded = ActivitySnapshot.decode(ActivitySnapshot.encode(activities, SNAPSHOT_ID));
+
+        assertEquals(SNAPSHOT_ID, ActivitySnapshot.decodeSnapshotId(ActivitySnapshot.encode(activities, SNAPSHOT_ID)));
+        assertEquals(activities.size(), decoded.size());
+        for (int i = 0; i < activities.size(); i++) {
+            assertEquals(activities.get(i).getClass(), decoded.get(i).getClass());
+            assertEquals(activities.unparse(activities.get(i)), activities.unparse(decoded.get(i)));
+        }
+    }
+
+    /**
+     * Tests that an empty list is encoded into a snapshot without any activity.
+     *
+     * @throws AthletiException If the snapshot cannot be decoded.
+     */
+    @Test
+    void decode_emptyList_emptyList() throws AthletiException {
+        assertEquals(List.of(), ActivitySnapshot.decode(ActivitySnapshot.encode(new ArrayList<>(), SNAPSHOT_ID)));
+    }
+
+    /**
+     * Tests that a truncated snapshot is rejected.
+     */
+    @Test
+    void decode_truncatedSnapshot_exceptionThrown() {
+        ByteBuffer snapshot = ActivitySnapshot.encode(List.of(new Activity("Walk", LocalTime.of(0, 30), 2000,
+                DATE_TIME)), SNAPSHOT_ID);
+        snapshot.limit(snapshot.limit() - 1);
+        assertThrows(AthletiException.class, () -> ActivitySnapshot.decode(snapshot));
+    }
+}
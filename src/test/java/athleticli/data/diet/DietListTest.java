@@ -1,10 +1,13 @@
 package athleticli.data.diet;
 
+import athleticli.data.Goal;
 import athleticli.exceptions.AthletiException;
+import athleticli.parser.Parameter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -45,6 +48,44 @@ public class DietListTest {
         });
     }
 
+    @Test
+    void find_dietsOnDifferentDates_expectDietsWithinRange() {
+        Diet laterDiet = new Diet(CALORIES, PROTEIN, CARB, FAT, DATE_TIME.plusDays(2));
+        dietList.add(diet);
+        dietList.add(laterDiet);
+        assertEquals(List.of(diet), dietList.find(DATE_TIME.toLocalDate()));
+        assertEquals(List.of(laterDiet, diet),
+                dietList.find(DATE_TIME.toLocalDate(), DATE_TIME.toLocalDate().plusDays(2)));
+        assertEquals(List.of(), dietList.find(DATE_TIME.toLocalDate().plusDays(1)));
+    }
+
+    @Test
+    void getTotal_dietsEditedAndRemoved_expectTotalsWithinTimeSpan() {
+        Diet recentDiet = new Diet(CALORIES, PROTEIN, CARB, FAT, LocalDateTime.now());
+        Diet olderDiet = new Diet(CALORIES, PROTEIN, CARB, FAT, LocalDateTime.now().minusDays(6));
+        dietList.add(diet);
+        dietList.add(recentDiet);
+        dietList.add(olderDiet);
+        assertEquals(CALORIES, dietList.getTotal(Parameter.NUTRIENTS_CALORIES, Goal.TimeSpan.DAILY));
+        assertEquals(2 * FAT, dietList.getTotal(Parameter.NUTRIENTS_FAT, Goal.TimeSpan.WEEKLY));
+        olderDiet.setDateTime(LocalDateTime.now().minusDays(7));
+        olderDiet.setProtein(1);
+        dietList.set(2, olderDiet);
+        assertEquals(PROTEIN, dietList.getTotal(Parameter.NUTRIENTS_PROTEIN, Goal.TimeSpan.WEEKLY));
+        assertEquals(PROTEIN + 1, dietList.getTotal(Parameter.NUTRIENTS_PROTEIN, Goal.TimeSpan.MONTHLY));
+        dietList.remove(1);
+        assertEquals(0, dietList.getTotal(Parameter.NUTRIENTS_CARB, Goal.TimeSpan.WEEKLY));
+    }
+
+    @Test
+    void getTotal_dietsCenturiesApart_expectOnlyTotalsWithinTimeSpan() {
+        dietList.add(new Diet(CALORIES, PROTEIN, CARB, FAT, LocalDateTime.of(1, 1, 1, 8, 0)));
+        dietList.add(new Diet(CALORIES, PROTEIN, CARB, FAT, LocalDateTime.now()));
+        dietList.add(new Diet(CALORIES, PROTEIN, CARB, FAT, LocalDateTime.of(1900, 1, 1, 8, 0)));
+        assertEquals(CALORIES, dietList.getTotal(Parameter.NUTRIENTS_CALORIES, Goal.TimeSpan.DAILY));
+        assertEquals(FAT, dietList.getTotal(Parameter.NUTRIENTS_FAT, Goal.TimeSpan.YEARLY));
+    }
+
     @Test
     void get_addOneDiet_expectGetSameDiet() {
         dietList.add(diet);
@@ -0,0 +1,86 @@
+package athleticli.data.sleep;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import athleticli.exceptions.AthletiException;
+
+class SleepIntervalIndexTest {
+    private static final LocalDateTime START = LocalDateTime.of(2023, 10, 17, 22, 0);
+    private SleepIntervalIndex index;
+    private Sleep sleep;
+
+    @BeforeEach
+    void setUp() throws AthletiException {
+        index = new SleepIntervalIndex();
+        sleep = new Sleep(START, START.plusHours(8));
+        index.add(sleep);
+    }
+
+    @Test
+    void isOverlapping_touchingWindows_false() {
+        assertFalse(index.isOverlapping(START.minusHours(2), START));
+        assertFalse(index.isOverlapping(START.plusHours(8), START.plusHours(9)));
+    }
+
+    @Test
+    void isOverlapping_overlappingWindows_true() {
+        assertTrue(index.isOverlapping(START.minusHours(2), START.plusMinutes(1)));
+        assertTrue(index.isOverlapping(START.plusHours(1), START.plusHours(2)));
+        assertTrue(index.isOverlapping(START.minusDays(1), START.plusDays(1)));
+    }
+
+    @Test
+    void remove_onlySleep_noOverlap() {
+        index.remove(sleep);
+        assertFalse(index.isOverlapping(START, START.plusHours(8)));
+        assertEquals(List.of(), index.findOverlapping(START, START.plusHours(8)));
+    }
+
+    @Test
+    void findOverlapping_randomSleeps_sameAsLinearScan() throws AthletiException {
+        index.clear();
+        final Random random = new Random(42);
+        final ArrayList<Sleep> sleeps = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final LocalDateTime start = START.minusHours(random.nextInt(2000));
+            final Sleep randomSleep = new Sleep(start, start.plusMinutes(1 + random.nextInt(24 * 60)));
+            sleeps.add(randomSleep);
+            index.add(randomSleep);
+        }
+        for (int i = 0; i < 200; i += 2) {
+            index.remove(sleeps.get(i));
+        }
+        for (int i = 0; i < 200; i++) {
+            final LocalDateTime start = START.minusHours(random.nextInt(2100));
+            final LocalDateTime end = start.plusMinutes(1 + random.nextInt(48 * 60));
+            final List<Sleep> expected = new ArrayList<>();
+            for (int j = 0; j < sleeps.size(); j++) {
+                final Sleep candidate = sleeps.get(j);
+                if ((j >= 200 || j % 2 == 1) && candidate.getStartDateTime().isBefore(end)
+                        && candidate.getEndDateTime().isAfter(start)) {
+                    expected.add(candidate);
+                }
+            }
+            final List<Sleep> actual = index.findOverlapping(start, end);
+            assertEquals(sortedByStart(expected), sortedByStart(actual));
+            assertEquals(!expected.isEmpty(), index.isOverlapping(start, end));
+        }
+    }
+
+    private List<LocalDateTime> sortedByStart(List<Sleep> sleeps) {
+        return sleeps.stream().map(Sleep::getStartDateTime).sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+    }
+}
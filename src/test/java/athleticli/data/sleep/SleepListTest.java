@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -41,6 +42,12 @@ public class SleepListTest {
         assertEquals(sleepList.find(LocalDate.now().minusDays(1)).get(0), sleepFirst);
     }
 
+    @Test
+    public void testFindRange() {
+        assertEquals(List.of(sleepSecond, sleepFirst), sleepList.find(LocalDate.now().minusDays(1), LocalDate.now()));
+        assertEquals(List.of(sleepParse), sleepList.find(LocalDate.of(2023, 10, 1), LocalDate.of(2023, 10, 31)));
+    }
+
     @Test
     public void testSort() {
         sleepList.sort();
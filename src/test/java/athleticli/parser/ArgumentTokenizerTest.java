@@ -0,0 +1,72 @@
+package athleticli.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.nio.CharBuffer;
+
+import org.junit.jupiter.api.Test;
+
+class ArgumentTokenizerTest {
+    private final ArgumentTokenizer tokenizer = new ArgumentTokenizer(Parameter.CALORIES_SEPARATOR,
+            Parameter.PROTEIN_SEPARATOR, Parameter.DATETIME_SEPARATOR);
+
+    @Test
+    void tokenize_markersInArguments_occurrencesOrderedByPosition() {
+        tokenizer.tokenize("protein/2 calories/1 datetime/2023-10-06 10:00 calories/3");
+        assertEquals(4, tokenizer.size());
+        assertEquals(Parameter.PROTEIN_SEPARATOR, tokenizer.getMarker(0));
+        assertEquals(0, tokenizer.getStart(0));
+        assertEquals(Parameter.CALORIES_SEPARATOR, tokenizer.getMarker(1));
+        assertEquals(10, tokenizer.getStart(1));
+        assertEquals(Parameter.DATETIME_SEPARATOR, tokenizer.getMarker(2));
+        assertEquals(Parameter.CALORIES_SEPARATOR, tokenizer.getMarker(3));
+    }
+
+    @Test
+    void tokenize_calledAgain_previousOccurrencesReplaced() {
+        tokenizer.tokenize("calories/1 calories/2 calories/3 calories/4 calories/5 calories/6 calories/7 "
+                + "calories/8 calories/9");
+        assertEquals(9, tokenizer.size());
+        tokenizer.tokenize("protein/1");
+        assertEquals(1, tokenizer.size());
+        assertEquals(-1, tokenizer.indexOf(Parameter.CALORIES_SEPARATOR));
+    }
+
+    @Test
+    void indexOf_sameAsString_forAllMarkers() {
+        final String arguments = "xcalories/1 protein/ calories/3calories/ datetime/";
+        tokenizer.tokenize(arguments);
+        for (String marker : new String[]{Parameter.CALORIES_SEPARATOR, Parameter.PROTEIN_SEPARATOR,
+                Parameter.DATETIME_SEPARATOR}) {
+            assertEquals(arguments.indexOf(marker), tokenizer.indexOf(marker));
+            assertEquals(arguments.indexOf(marker, 5), tokenizer.indexOf(marker, 5));
+            assertEquals(arguments.lastIndexOf(marker), tokenizer.lastIndexOf(marker));
+        }
+    }
+
+    @Test
+    void getWords_markerFollowedBySpace_laterOccurrenceUsed() {
+        tokenizer.tokenize("calories/ calories/5 protein/");
+        assertEquals("5", tokenizer.getWords(Parameter.CALORIES_SEPARATOR, 1));
+        assertEquals("", tokenizer.getWords(Parameter.PROTEIN_SEPARATOR, 1));
+    }
+
+    @Test
+    void getWords_twoWords_joinedBySingleSpace() {
+        tokenizer.tokenize("datetime/2023-10-06 \t10:00 calories/1");
+        assertEquals("2023-10-06 10:00", tokenizer.getWords(Parameter.DATETIME_SEPARATOR, 2));
+        tokenizer.tokenize("datetime/2023-10-06  ");
+        assertEquals("2023-10-06", tokenizer.getWords(Parameter.DATETIME_SEPARATOR, 2));
+    }
+
+    @Test
+    void getWordSequence_wordsSeparatedBySingleSpace_viewOfArguments() {
+        tokenizer.tokenize(CharBuffer.wrap("calories/1 datetime/2023-10-06 10:00"));
+        final CharSequence datetime = tokenizer.getWordSequence(Parameter.DATETIME_SEPARATOR, 2);
+        assertInstanceOf(CharBuffer.class, datetime);
+        assertEquals("2023-10-06 10:00", datetime.toString());
+        tokenizer.tokenize(CharBuffer.wrap("datetime/2023-10-06 \t10:00"));
+        assertEquals("2023-10-06 10:00", tokenizer.getWordSequence(Parameter.DATETIME_SEPARATOR, 2));
+    }
+}
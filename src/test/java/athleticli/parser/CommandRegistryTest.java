@@ -0,0 +1,63 @@
+package athleticli.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import athleticli.commands.ByeCommand;
+import athleticli.commands.HelpCommand;
+import athleticli.exceptions.AthletiException;
+import athleticli.ui.Message;
+
+class CommandRegistryTest {
+    private CommandRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CommandRegistry();
+        registry.addSection("Custom:");
+        registry.register("quit", "quit", commandArgs -> new ByeCommand());
+    }
+
+    @Test
+    void parse_registeredCommand_createdByFactory() throws AthletiException {
+        assertInstanceOf(ByeCommand.class, registry.parse("quit"));
+        assertEquals(1, registry.getInvocationCount("quit"));
+        registry.parse("quit now");
+        assertEquals(Long.valueOf(2), registry.getInvocationCounts().get("quit"));
+    }
+
+    @Test
+    void parse_unknownCommand_exceptionThrown() {
+        assertThrows(AthletiException.class, () -> registry.parse("bye"));
+        assertEquals(0, registry.getInvocationCount("bye"));
+    }
+
+    @Test
+    void register_duplicateCommandWord_exceptionThrown() {
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.register("quit", "quit", commandArgs -> new ByeCommand()));
+    }
+
+    @Test
+    void getHelp_registeredAndUnknownCommands_helpOrNull() {
+        assertEquals("quit", registry.getHelp("quit"));
+        assertNull(registry.getHelp("bye"));
+        assertEquals(Message.HELP_BYE, CommandRegistry.getInstance().getHelp(CommandName.COMMAND_BYE));
+    }
+
+    @Test
+    void getAllHelp_sectionsAndDetails_inRegistrationOrder() {
+        final String[] expected = {"\nCustom:", "quit", "\n" + Message.HELP_DETAILS};
+        assertEquals(String.join("|", expected), String.join("|", registry.getAllHelp()));
+    }
+
+    @Test
+    void parseCommand_help_builtInRegistryUsed() throws AthletiException {
+        assertInstanceOf(HelpCommand.class, Parser.parseCommand("help add-sleep"));
+    }
+}
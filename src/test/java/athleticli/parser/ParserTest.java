@@ -16,21 +16,34 @@ import athleticli.commands.diet.SetDietGoalCommand;
 import athleticli.commands.sleep.AddSleepCommand;
 import athleticli.commands.sleep.DeleteSleepCommand;
 import athleticli.commands.sleep.EditSleepCommand;
+import athleticli.commands.sleep.FindSleepCommand;
 import athleticli.commands.sleep.ListSleepCommand;
+import athleticli.commands.Page;
+import athleticli.data.Goal;
 import athleticli.exceptions.AthletiException;
 import org.junit.jupiter.api.Test;
 
+import java.nio.CharBuffer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 
 import static athleticli.common.Config.DATE_TIME_FORMATTER;
+import static athleticli.common.Config.DEFAULT_PAGE_SIZE;
 import static athleticli.parser.Parser.getValueForMarker;
 import static athleticli.parser.Parser.parseCommand;
 import static athleticli.parser.Parser.parseDate;
+import static athleticli.parser.Parser.parseDateRange;
+import static athleticli.parser.Parser.findIndexEnd;
+import static athleticli.parser.Parser.parseDigits;
 import static athleticli.parser.Parser.parseNonNegativeInteger;
+import static athleticli.parser.Parser.parsePage;
+import static athleticli.parser.Parser.parseProfile;
 import static athleticli.parser.Parser.splitCommandWordAndArgs;
+import static athleticli.parser.Parser.trim;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ParserTest {
@@ -46,6 +59,38 @@ class ParserTest {
         assertEquals(splitCommandWordAndArgs(commandWithMultipleArgs).length, 2);
     }
 
+    @Test
+    void splitCommandWordAndArgs_whitespacesBetween_sameAsRegexSplit() {
+        for (String rawUserInput : new String[]{"", "  bye ", "edit-diet\t 1  calories/5 ", "find\n2023-10-01"}) {
+            final String[] expected = rawUserInput.trim().split("\\s+", 2);
+            final String[] actual = splitCommandWordAndArgs(rawUserInput);
+            assertEquals(expected[0], actual[0]);
+            assertEquals(expected.length == 2 ? expected[1] : "", actual[1]);
+        }
+    }
+
+    @Test
+    void findIndexEnd_variousArguments_sameAsRegexSplit() {
+        for (String arguments : new String[]{"", "1", "12 caption/Run", " 3start/", "abc", "a1b2"}) {
+            final String[] expected = arguments.split("(?<=\\d)(?=\\D)", 2);
+            assertEquals(expected[0], arguments.substring(0, findIndexEnd(arguments)));
+        }
+    }
+
+    @Test
+    void parseDigits_plainDigits_integerParsed() {
+        assertEquals(0, parseDigits("0"));
+        assertEquals(123, parseDigits("00123"));
+        assertEquals(Integer.MAX_VALUE, parseDigits("2147483647"));
+    }
+
+    @Test
+    void parseDigits_notPlainDigits_notDigitsReturned() {
+        for (String digits : new String[]{"", "-1", "+1", "1 ", "1a", "2147483648", "99999999999999999999"}) {
+            assertEquals(Parser.NOT_DIGITS, parseDigits(digits));
+        }
+    }
+
     @Test
     void parseCommand_unknownCommand_expectAthletiException() {
         final String unknownCommand = "hello";
@@ -64,6 +109,18 @@ class ParserTest {
         assertInstanceOf(AddSleepCommand.class, parseCommand(addSleepCommandString));
     }
 
+    @Test
+    void parseCommand_findSleepCommandWithWindow_expectFindSleepCommand() throws AthletiException {
+        final String findSleepCommandString = "find-sleep start/2023-10-06 10:00 end/2023-10-06 11:00";
+        assertInstanceOf(FindSleepCommand.class, parseCommand(findSleepCommandString));
+    }
+
+    @Test
+    void parseCommand_findSleepCommandWithWindowMissingEnd_expectAthletiException() {
+        final String findSleepCommandString = "find-sleep start/2023-10-06 10:00";
+        assertThrows(AthletiException.class, () -> parseCommand(findSleepCommandString));
+    }
+
     @Test
     void parseCommand_addSleepCommand_missingStartExpectAthletiException() {
         final String addSleepCommandString = "add-sleep end/2023-10-06 10:00";
@@ -471,6 +528,37 @@ class ParserTest {
         assertThrows(AthletiException.class, () -> Parser.parseDateTime(invalidInput));
     }
 
+    @Test
+    void parseDateTime_fixedLayouts_sameAsFormatter() throws AthletiException {
+        final String[] inputs = {"2023-10-06 10:00", "2023-10-06T10:00", "2024-02-29 23:59", "2023-02-29 10:00",
+            "2023-04-31 10:00", "2023-13-01 10:00", "2023-10-06 24:00", "2023-10-06 10:60", "2023-1a-06 10:00",
+            "2a23-10-06 10:00", "2023/10/06 10:00", "2023-10-06 1:00", "1900-02-29 10:00", "2000-02-29 10:00"};
+        for (String input : inputs) {
+            LocalDateTime expected;
+            try {
+                expected = LocalDateTime.parse(input.replace("T", " "), DATE_TIME_FORMATTER);
+            } catch (DateTimeParseException e) {
+                expected = null;
+            }
+            if (expected == null) {
+                assertThrows(AthletiException.class, () -> Parser.parseDateTime(input));
+            } else {
+                assertEquals(expected, Parser.parseDateTime(input));
+            }
+        }
+    }
+
+    @Test
+    void parseDateTime_duringBatch_futureDateTimeRejected() {
+        Parser.beginBatch();
+        try {
+            final String futureDateTime = LocalDateTime.now().plusMinutes(2).format(DATE_TIME_FORMATTER);
+            assertThrows(AthletiException.class, () -> Parser.parseDateTime(futureDateTime));
+        } finally {
+            Parser.endBatch();
+        }
+    }
+
     @Test
     void parseDateTime_invalidYear_throwAthletiException() {
         String invalidInput = "0000-01-01 00:01";
@@ -515,6 +603,69 @@ class ParserTest {
         assertThrows(AthletiException.class, () -> parseDate(invalidInput));
     }
 
+    @Test
+    void parseDateRange_twoDates_rangeParsed() throws AthletiException {
+        LocalDate[] actual = parseDateRange("2023-10-01  2023-10-31");
+        assertEquals(LocalDate.parse("2023-10-01"), actual[0]);
+        assertEquals(LocalDate.parse("2023-10-31"), actual[1]);
+    }
+
+    @Test
+    void parseDateRange_oneDate_singleDayRange() throws AthletiException {
+        LocalDate[] actual = parseDateRange("2023-10-01");
+        assertEquals(actual[0], actual[1]);
+    }
+
+    @Test
+    void parseProfile_validName_trimmed() throws AthletiException {
+        assertEquals("alice_2-b", parseProfile(" alice_2-b "));
+    }
+
+    @Test
+    void parseProfile_emptyOrPath_exceptionThrown() {
+        assertThrows(AthletiException.class, () -> parseProfile(" "));
+        assertThrows(AthletiException.class, () -> parseProfile("../alice"));
+        assertThrows(AthletiException.class, () -> parseProfile("alice bob"));
+    }
+
+    @Test
+    void parsePage_noFlags_wholeList() throws AthletiException {
+        assertSame(Page.ALL, parsePage("-d"));
+    }
+
+    @Test
+    void parsePage_pageAndLimit_rangeOfPage() throws AthletiException {
+        Page page = parsePage("--limit 10 -d --page 3");
+        assertEquals(20, page.getStart(100));
+        assertEquals(30, page.getEnd(100));
+        assertEquals(25, page.getEnd(25));
+        assertEquals(20, page.getStart(20));
+    }
+
+    @Test
+    void parsePage_onlyPage_defaultLimit() throws AthletiException {
+        Page page = parsePage("--page 2");
+        assertEquals(DEFAULT_PAGE_SIZE, page.getStart(1000));
+    }
+
+    @Test
+    void parsePage_invalidValues_throwAthletiException() {
+        assertThrows(AthletiException.class, () -> parsePage("--page 0"));
+        assertThrows(AthletiException.class, () -> parsePage("--limit -5"));
+        assertThrows(AthletiException.class, () -> parsePage("--page two"));
+        assertThrows(AthletiException.class, () -> parsePage("--limit"));
+    }
+
+    @Test
+    void parseDateRange_endBeforeStart_throwAthletiException() {
+        assertThrows(AthletiException.class, () -> parseDateRange("2023-10-31 2023-10-01"));
+    }
+
+    @Test
+    void parseDateRange_threeDates_throwAthletiException() {
+        assertThrows(AthletiException.class, () -> parseDateRange("2023-10-01 2023-10-02 2023-10-03"));
+    }
+
     @Test
     void parseDate_invalidLeapYear_throwAthletiException() {
         String invalidInput = "2021-02-29";
@@ -832,4 +983,23 @@ class ParserTest {
         assertEquals("", fatActual);
         assertEquals("", datetimeActual);
     }
+
+    @Test
+    void trim_variousText_sameAsString() {
+        for (String text : new String[]{"", " ", "a", " \ta b\n", "a  "}) {
+            assertEquals(text.trim(), trim(CharBuffer.wrap(text)).toString());
+        }
+    }
+
+    @Test
+    void parseEnum_anyCase_constantFound() {
+        assertEquals(Goal.TimeSpan.WEEKLY, Parser.parseEnum(Goal.TimeSpan.class, CharBuffer.wrap("wEEkly")));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseEnum(Goal.TimeSpan.class, "week"));
+    }
+
+    @Test
+    void parseDateTime_viewOfLine_sameAsString() throws AthletiException {
+        final CharSequence line = CharBuffer.wrap("datetime/2023-10-06T10:00");
+        assertEquals(LocalDateTime.of(2023, 10, 6, 10, 0), Parser.parseDateTime(line.subSequence(9, 25)));
+    }
 }
@@ -0,0 +1,95 @@
+package athleticli.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the file writing and mapped reading paths of <code>Storage</code>.
+ */
+class StorageTest {
+    @TempDir
+    Path directory;
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("data.txt");
+    }
+
+    @Test
+    void save_existingFile_replacedWithoutTempFiles() throws IOException {
+        Files.writeString(path, "old content that is longer than the new one\n");
+        Storage.save(path.toString(), Stream.of("first\n", null, "second\n"));
+        assertEquals(List.of("first", "second"), Files.readAllLines(path));
+        try (Stream<Path> files = Files.list(path.getParent())) {
+            assertEquals(List.of(path), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void save_existingFile_permissionsKept() throws IOException {
+        assumeTrue(path.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Files.writeString(path, "old content\n");
+        final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(path, permissions);
+        Storage.save(path.toString(), Stream.of("new content\n"));
+        assertEquals(permissions, Files.getPosixFilePermissions(path));
+        Storage.saveBytes(path.toString(), ByteBuffer.wrap(new byte[] {1}));
+        assertEquals(permissions, Files.getPosixFilePermissions(path));
+    }
+
+    @Test
+    void saveBytes_missingDirectory_created() throws IOException {
+        Path nested = path.resolveSibling("nested").resolve("data.bin");
+        Storage.saveBytes(nested.toString(), ByteBuffer.wrap(new byte[] {1, 2, 3}));
+        assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(nested));
+    }
+
+    @Test
+    void loadLines_mixedLineEndsAndEncodings_linesWithoutTerminators() throws IOException {
+        Files.write(path, "first\r\nsecond caf\u00e9\n\nlast".getBytes(StandardCharsets.UTF_8));
+        final List<String> lines = new ArrayList<>();
+        Storage.loadLines(path.toString(), line -> lines.add(line.toString()));
+        assertEquals(List.of("first", "second caf\u00e9", "", "last"), lines);
+    }
+
+    @Test
+    void loadLines_missingFile_createdEmpty() throws IOException {
+        final List<CharSequence> lines = new ArrayList<>();
+        Storage.loadLines(path.toString(), lines::add);
+        assertEquals(List.of(), lines);
+        assertEquals(0, Files.size(path));
+    }
+
+    @Test
+    void loadLines_lineReadAfterLoad_exceptionThrownAndFileReplaceable() throws IOException {
+        Files.writeString(path, "caption/Run duration/01:00\n");
+        final List<CharSequence> lines = new ArrayList<>();
+        Storage.loadLines(path.toString(), lines::add);
+        assumeTrue(lines.get(0) instanceof MappedLine);
+        assertEquals(26, lines.get(0).length());
+        assertThrows(IllegalStateException.class, () -> lines.get(0).charAt(0));
+        assertThrows(IllegalStateException.class, () -> lines.get(0).subSequence(0, 7).toString());
+        Storage.save(path.toString(), Stream.of("replaced\n"));
+        assertEquals(List.of("replaced"), Files.readAllLines(path));
+    }
+}